@@ -6,4 +6,10 @@ task_serializer = 'json'
 result_serializer = 'json'
 accept_content = ['json']
 timezone = 'Asia/Seoul'
-enable_utc = True
\ No newline at end of file
+enable_utc = True
+
+# 작업 우선순위: celery 큐를 x-max-priority 로 선언하고, worker 가 미리 가져가는 작업을 1개로 제한해
+# 큐에 남아 있는 작업들 사이에서 우선순위가 적용되도록 한다.
+task_queue_max_priority = 10
+task_default_priority = 0
+worker_prefetch_multiplier = 1
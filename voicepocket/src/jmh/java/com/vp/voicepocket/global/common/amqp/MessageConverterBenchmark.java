@@ -0,0 +1,88 @@
+package com.vp.voicepocket.global.common.amqp;
+
+import com.vp.voicepocket.domain.message.model.InputMessage;
+import com.vp.voicepocket.domain.message.model.OutputMessage;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * InputMessage / OutputMessage 의 JSON(Jackson2JsonMessageConverter) 과 CBOR(CborMessageConverter) 변환 처리량 비교.
+ * 메시지당 크기는 Setup 에서 한 번 출력한다.
+ *
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MessageConverterBenchmark {
+
+	@Param({"json", "cbor"})
+	private String format;
+
+	@Param({"short", "long"})
+	private String text;
+
+	private MessageConverter converter;
+	private InputMessage inputMessage;
+	private Message encodedInput;
+	private Message encodedOutput;
+
+	@Setup
+	public void setUp() {
+		converter = "cbor".equals(format) ? new CborMessageConverter() : new Jackson2JsonMessageConverter();
+
+		var uuid = UUID.randomUUID().toString();
+		inputMessage = InputMessage.builder()
+			.type("ETL")
+			.uuid(uuid)
+			.requestFrom("sender1234@gmail.com")
+			.requestTo("voicemodel99@gmail.com")
+			.text("short".equals(text)
+				? "오늘 저녁에 같이 밥 먹을래?"
+				: "안녕하세요. 오늘은 날씨가 맑고 따뜻해서 산책하기 좋은 날입니다. ".repeat(8))
+			.priority(8)
+			.chunkIndex(0)
+			.chunkCount(1)
+			.build();
+		var outputMessage = new OutputMessage("sender1234@gmail.com", "voicemodel99@gmail.com",
+			"TTS Request Success!", "voicemodel99@gmail.com/" + uuid + ".wav", uuid, 0, 1);
+
+		encodedInput = withInferredType(converter.toMessage(inputMessage, new MessageProperties()), InputMessage.class);
+		encodedOutput = withInferredType(converter.toMessage(outputMessage, new MessageProperties()), OutputMessage.class);
+		System.out.printf("%n[%s/%s] InputMessage %d bytes (%d header entries), OutputMessage %d bytes%n", format, text,
+			encodedInput.getBody().length, encodedInput.getMessageProperties().getHeaders().size(),
+			encodedOutput.getBody().length);
+	}
+
+	@Benchmark
+	public Message encodeInput() {
+		return converter.toMessage(inputMessage, new MessageProperties());
+	}
+
+	@Benchmark
+	public Object decodeInput() {
+		return converter.fromMessage(encodedInput);
+	}
+
+	@Benchmark
+	public Object decodeOutput() {
+		return converter.fromMessage(encodedOutput);
+	}
+
+	private static Message withInferredType(Message message, Class<?> type) {
+		message.getMessageProperties().setInferredArgumentType(type);
+		return message;
+	}
+}
@@ -0,0 +1,27 @@
+package com.vp.voicepocket.domain.firebase.dto;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 특정 사용자에게 보낼 push 내용.
+ * 엔티티 대신 값만 들고 있으므로 다른 스레드로 넘기거나 outbox 에 직렬화해도 안전하다.
+ */
+@Getter
+@NoArgsConstructor
+public class PushRequestDto {
+    private Long userId;
+    private String title;
+    private String body;
+    private Map<String, String> data;
+
+    @Builder
+    public PushRequestDto(Long userId, String title, String body, Map<String, String> data) {
+        this.userId = userId;
+        this.title = title;
+        this.body = body;
+        this.data = data;
+    }
+}
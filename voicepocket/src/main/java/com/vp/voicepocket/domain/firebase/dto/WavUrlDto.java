@@ -0,0 +1,24 @@
+package com.vp.voicepocket.domain.firebase.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class WavUrlDto {
+    private final String userEmail;
+    private final String modelEmail;
+    private final String wavUrl;
+    private final String uuid;
+    // 나누어 합성한 요청의 조각별 wav url (조각 순서). 나누지 않은 요청이면 null
+    private final List<String> wavUrls;
+
+    @Builder
+    public WavUrlDto(String userEmail, String modelEmail, String wavUrl, String uuid, List<String> wavUrls) {
+        this.userEmail = userEmail;
+        this.modelEmail = modelEmail;
+        this.wavUrl = wavUrl;
+        this.uuid = uuid;
+        this.wavUrls = wavUrls;
+    }
+}
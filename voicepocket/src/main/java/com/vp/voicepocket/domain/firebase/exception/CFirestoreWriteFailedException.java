@@ -0,0 +1,15 @@
+package com.vp.voicepocket.domain.firebase.exception;
+
+public class CFirestoreWriteFailedException extends RuntimeException {
+    public CFirestoreWriteFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CFirestoreWriteFailedException(String message) {
+        super(message);
+    }
+
+    public CFirestoreWriteFailedException() {
+        super();
+    }
+}
@@ -3,10 +3,13 @@ package com.vp.voicepocket.domain.firebase.repository;
 import com.vp.voicepocket.domain.firebase.entity.FCMUserToken;
 import com.vp.voicepocket.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 
@@ -15,4 +18,12 @@ public interface FCMRepository extends JpaRepository<FCMUserToken, Long> {
 
     @Query(value = "select fcm from FCMUserToken fcm where fcm.userId = :userId")
     Optional<FCMUserToken> findByUserId(@Param("userId") User userId);
+
+    @Query(value = "select fcm.FireBaseToken from FCMUserToken fcm where fcm.userId.id = :userId")
+    Optional<String> findTokenByUserId(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from FCMUserToken fcm where fcm.FireBaseToken in :tokens")
+    int deleteByFireBaseTokenIn(@Param("tokens") Collection<String> tokens);
 }
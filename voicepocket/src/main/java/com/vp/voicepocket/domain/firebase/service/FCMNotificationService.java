@@ -1,7 +1,5 @@
 package com.vp.voicepocket.domain.firebase.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
 import com.vp.voicepocket.domain.firebase.dto.FCMNotificationRequestDto;
@@ -15,7 +13,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Slf4j
 public class FCMNotificationService {
-    private final FirebaseMessaging firebaseMessaging;
+    private final PushDispatcher pushDispatcher;
 
     public void sendNotificationByToken(FCMNotificationRequestDto requestDto){
         Notification notification = Notification.builder()
@@ -28,13 +26,7 @@ public class FCMNotificationService {
                 .setNotification(notification)
                 .build();
 
-        try {
-            firebaseMessaging.send(message);
-            log.info("push 성공");
-        } catch (FirebaseMessagingException e) {
-            log.info(e.getMessage());
-            throw new RuntimeException(e);
-        }
+        pushDispatcher.dispatch(requestDto.getFirebaseToken(), message);
     }
 
     /**
@@ -54,12 +46,6 @@ public class FCMNotificationService {
                 .putAllData(data)   // data 추가
                 .build();
 
-        try {
-            firebaseMessaging.send(message);
-            log.info("push 성공");
-        } catch (FirebaseMessagingException e) {
-            log.info(e.getMessage());
-            throw new RuntimeException(e);
-        }
+        pushDispatcher.dispatch(requestDto.getFirebaseToken(), message);
     }
 }
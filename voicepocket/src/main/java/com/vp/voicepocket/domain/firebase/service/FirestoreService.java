@@ -1,36 +1,75 @@
 package com.vp.voicepocket.domain.firebase.service;
 
-import com.google.api.core.ApiFuture;
 import com.google.cloud.firestore.DocumentReference;
 import com.google.cloud.firestore.Firestore;
-import com.google.cloud.firestore.WriteResult;
+import com.vp.voicepocket.domain.firebase.dto.WavUrlDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FirestoreService {
     private final Firestore firestore;
+    private final FirestoreWriter firestoreWriter;
 
     @Value("${firestore.path}")
     String GCP_OPEN_URL;
 
-    public void addWavUrl(String userEmail, String modelEmail, String wavUrl, String uuid){
-        DocumentReference docRef = firestore
+    /**
+     * @return 문서가 커밋되면 완료되는 future
+     */
+    public CompletableFuture<Void> addWavUrl(String userEmail, String modelEmail, String wavUrl, String uuid){
+        DocumentReference docRef = getMessageDocument(userEmail, modelEmail, uuid);
+        return firestoreWriter.set(docRef, createWavUrlData(wavUrl, null));
+    }
+
+    /**
+     * 나누어 합성한 요청의 결과를 문서 하나로 기록한다.
+     * message 에는 첫 조각을, messages 에는 재생 순서대로 모든 조각의 url 을 담는다.
+     * @return 문서가 커밋되면 완료되는 future
+     */
+    public CompletableFuture<Void> addWavUrlManifest(String userEmail, String modelEmail, List<String> wavUrls, String uuid) {
+        DocumentReference docRef = getMessageDocument(userEmail, modelEmail, uuid);
+        return firestoreWriter.set(docRef, createWavUrlData(wavUrls.get(0), wavUrls));
+    }
+
+    /**
+     * 여러 건의 wav url 을 기록한다. FirestoreWriter 가 WriteBatch 로 묶어 커밋한다.
+     * @return 모든 문서가 커밋되면 완료되는 future
+     */
+    public CompletableFuture<Void> addWavUrls(List<WavUrlDto> wavUrls) {
+        return CompletableFuture.allOf(wavUrls.stream()
+                .map(wavUrl -> wavUrl.getWavUrls() == null
+                        ? addWavUrl(wavUrl.getUserEmail(), wavUrl.getModelEmail(), wavUrl.getWavUrl(), wavUrl.getUuid())
+                        : addWavUrlManifest(wavUrl.getUserEmail(), wavUrl.getModelEmail(), wavUrl.getWavUrls(), wavUrl.getUuid()))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private DocumentReference getMessageDocument(String userEmail, String modelEmail, String uuid) {
+        return firestore
                 .collection("users")
                 .document(userEmail)
                 .collection(userEmail.equals(modelEmail)?"message":modelEmail)
                 .document(uuid);
+    }
+
+    private Map<String, Object> createWavUrlData(String wavUrl, List<String> wavUrls) {
         Map<String, Object> data = new HashMap<>();
         data.put("message", GCP_OPEN_URL +wavUrl);
+        if (wavUrls != null) {
+            data.put("messages", wavUrls.stream().map(url -> GCP_OPEN_URL + url).collect(Collectors.toList()));
+        }
         data.put("sender", "SERVER");
         data.put("time", System.currentTimeMillis());
-        ApiFuture<WriteResult> result = docRef.set(data);
+        return data;
     }
-}
\ No newline at end of file
+}
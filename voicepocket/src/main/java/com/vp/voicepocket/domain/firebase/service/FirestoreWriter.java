@@ -0,0 +1,241 @@
+package com.vp.voicepocket.domain.firebase.service;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.rpc.ApiException;
+import com.google.cloud.BaseServiceException;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteResult;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.vp.voicepocket.domain.firebase.exception.CFirestoreWriteFailedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Firestore 문서 쓰기를 WriteBatch 로 모아 커밋하는 writer.
+ *
+ * 호출자는 제한된 크기의 큐에 쓰기를 넣고 CompletableFuture 를 받는다.
+ * writer 스레드는 큐에 쌓인 쓰기를 batchSize(최대 500) 만큼 묶어 하나의 WriteBatch 로 커밋하고,
+ * 커밋이 끝나면 묶인 쓰기의 future 를 모두 완료한다.
+ * 일시적인 오류(isRetryable)는 지수 backoff 로 maxAttempts 까지 다시 커밋하고, 그 외 오류는 바로 실패로 처리한다.
+ *
+ * 동시에 커밋 중인 배치는 maxInFlight 개로 제한되며, 큐가 가득 차면 호출자를 잠시 기다리게 한 뒤
+ * CFirestoreWriteFailedException 으로 거절한다.
+ */
+@Slf4j
+@Component
+public class FirestoreWriter {
+
+    // Firestore WriteBatch 한 번에 담을 수 있는 최대 쓰기 수
+    private static final int MAX_BATCH_WRITES = 500;
+
+    private final Firestore firestore;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Semaphore inFlight;
+    private final int batchSize;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final long offerTimeoutMillis;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Timer batchLatency;
+    private final Counter failedCounter;
+    private final Counter retryCounter;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    public FirestoreWriter(Firestore firestore, MeterRegistry meterRegistry,
+        @Value("${voicepocket.firestore.writer.queue-capacity:10000}") int queueCapacity,
+        @Value("${voicepocket.firestore.writer.max-in-flight:8}") int maxInFlight,
+        @Value("${voicepocket.firestore.writer.batch-size:500}") int batchSize,
+        @Value("${voicepocket.firestore.writer.workers:2}") int workerCount,
+        @Value("${voicepocket.firestore.writer.max-attempts:5}") int maxAttempts,
+        @Value("${voicepocket.firestore.writer.offer-timeout-millis:500}") long offerTimeoutMillis,
+        @Value("${voicepocket.firestore.writer.initial-backoff-millis:200}") long initialBackoffMillis,
+        @Value("${voicepocket.firestore.writer.max-backoff-millis:10000}") long maxBackoffMillis) {
+        this.firestore = firestore;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.inFlight = new Semaphore(maxInFlight);
+        this.batchSize = Math.min(batchSize, MAX_BATCH_WRITES);
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.workers = Executors.newFixedThreadPool(workerCount,
+            new CustomizableThreadFactory("firestore-writer-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("firestore-retry-"));
+
+        this.batchLatency = Timer.builder("firestore.write.batch.latency")
+            .description("WriteBatch 커밋 요청부터 완료까지의 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("firestore.write.failed")
+            .description("재시도 후에도 실패한 Firestore 쓰기 수")
+            .register(meterRegistry);
+        this.retryCounter = Counter.builder("firestore.write.retry")
+            .description("일시적인 오류로 다시 커밋한 WriteBatch 수")
+            .register(meterRegistry);
+        Gauge.builder("firestore.write.queue.size", queue, BlockingQueue::size)
+            .description("커밋을 기다리는 Firestore 쓰기 수")
+            .register(meterRegistry);
+        Gauge.builder("firestore.write.in-flight", inFlight, permits -> maxInFlight - permits.availablePermits())
+            .description("커밋 중인 WriteBatch 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        retryScheduler.shutdown();
+        retryScheduler.awaitTermination(maxBackoff.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return 문서가 커밋되면 완료되는 future
+     */
+    public CompletableFuture<Void> set(DocumentReference document, Map<String, Object> data) {
+        var pending = new PendingWrite(document, data);
+        try {
+            if (!queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new CFirestoreWriteFailedException("Firestore write queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CFirestoreWriteFailedException("Interrupted while waiting for write queue", e);
+        }
+        return pending.result;
+    }
+
+    private void drain() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                inFlight.acquire();
+                commit(new ArrayList<>(batch), 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.result.completeExceptionally(
+                    new CFirestoreWriteFailedException("Firestore writer is shutting down")));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite> writes, int attempt) {
+        long startedAt = System.nanoTime();
+        try {
+            var batch = firestore.batch();
+            writes.forEach(pending -> batch.set(pending.document, pending.data));
+            ApiFutures.addCallback(batch.commit(), new ApiFutureCallback<List<WriteResult>>() {
+                @Override
+                public void onSuccess(List<WriteResult> results) {
+                    batchLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    inFlight.release();
+                    writes.forEach(pending -> pending.result.complete(null));
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    batchLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    retryOrFail(writes, attempt, t);
+                }
+            }, MoreExecutors.directExecutor());
+        } catch (RuntimeException e) {
+            retryOrFail(writes, attempt, e);
+        }
+    }
+
+    private void retryOrFail(List<PendingWrite> writes, int attempt, Throwable cause) {
+        if (attempt < maxAttempts && isRetryable(cause)) {
+            var backoff = backoff(attempt);
+            log.warn("Firestore batch of {} writes failed (attempt {}), retrying in {}ms: {}",
+                writes.size(), attempt, backoff.toMillis(), cause.getMessage());
+            try {
+                retryScheduler.schedule(() -> commit(writes, attempt + 1), backoff.toMillis(),
+                    TimeUnit.MILLISECONDS);
+                retryCounter.increment();
+                return;
+            } catch (RuntimeException e) {
+                cause = e;
+            }
+        }
+        log.error("Firestore batch of {} writes failed: {}", writes.size(), cause.getMessage());
+        failedCounter.increment(writes.size());
+        inFlight.release();
+        var failure = new CFirestoreWriteFailedException(cause.getMessage(), cause);
+        writes.forEach(pending -> pending.result.completeExceptionally(failure));
+    }
+
+    private boolean isRetryable(Throwable t) {
+        for (var cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException) {
+                return ((ApiException) cause).isRetryable();
+            }
+            if (cause instanceof BaseServiceException) {
+                return ((BaseServiceException) cause).isRetryable();
+            }
+        }
+        return false;
+    }
+
+    private Duration backoff(int attempt) {
+        var backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static class PendingWrite {
+
+        private final DocumentReference document;
+        private final Map<String, Object> data;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        PendingWrite(DocumentReference document, Map<String, Object> data) {
+            this.document = document;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.vp.voicepocket.domain.firebase.service;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.vp.voicepocket.domain.firebase.repository.FCMRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM push 를 모아서 보내는 dispatcher.
+ *
+ * 호출자는 메시지를 큐에 넣기만 하고, dispatcher 스레드가 windowMillis 마다 큐를 비우며
+ * 최대 500 개씩 FirebaseMessaging.sendAll 한 번으로 전송한다.
+ * 응답의 순서(index)로 실패한 메시지의 토큰을 찾아, 더 이상 유효하지 않은 토큰은 FCMUserToken 에서 삭제한다.
+ * UNREGISTERED 는 바로 삭제한다. INVALID_ARGUMENT 는 payload 가 잘못된 경우에도 오므로,
+ * 해당 토큰만 담은 메시지를 dry run 으로 다시 보내 같은 오류 코드가 올 때만 삭제한다. (오류 문구에는 의존하지 않는다)
+ * 큐가 가득 차면 호출자를 막지 않고 false 를 돌려준다. 호출자는 push 를 outbox 에 남겨 relay 가 다시 보내게 한다.
+ */
+@Slf4j
+@Component
+public class PushDispatcher {
+
+    // sendAll 한 번에 보낼 수 있는 최대 메시지 수
+    private static final int MAX_BATCH_MESSAGES = 500;
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final FCMRepository fcmRepository;
+    private final BlockingQueue<PendingPush> queue;
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Timer batchLatency;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+    private final Counter purgedCounter;
+
+    public PushDispatcher(FirebaseMessaging firebaseMessaging, FCMRepository fcmRepository,
+        MeterRegistry meterRegistry,
+        @Value("${voicepocket.push.queue-capacity:10000}") int queueCapacity,
+        @Value("${voicepocket.push.window-millis:200}") long windowMillis) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.fcmRepository = fcmRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.windowMillis = windowMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("push-dispatcher-"));
+
+        this.batchLatency = Timer.builder("push.batch.latency")
+            .description("sendAll 한 번의 호출 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.sentCounter = Counter.builder("push.sent")
+            .description("전송에 성공한 push 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("push.failed")
+            .description("전송에 실패한 push 수")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("push.dropped")
+            .description("큐가 가득 차 거절한 push 수")
+            .register(meterRegistry);
+        this.purgedCounter = Counter.builder("push.token.purged")
+            .description("유효하지 않아 삭제한 FCM 토큰 수")
+            .register(meterRegistry);
+        Gauge.builder("push.queue.size", queue, BlockingQueue::size)
+            .description("전송을 기다리는 push 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * @param token   message 에 설정한 FCM 토큰 (실패 시 토큰 정리에 사용)
+     * @param message 보낼 메시지
+     * @return 큐에 들어갔으면 true
+     */
+    public boolean dispatch(String token, Message message) {
+        if (queue.offer(new PendingPush(token, message))) {
+            return true;
+        }
+        droppedCounter.increment();
+        log.warn("push queue is full, rejecting push");
+        return false;
+    }
+
+    private void flush() {
+        List<PendingPush> batch = new ArrayList<>(MAX_BATCH_MESSAGES);
+        try {
+            while (queue.drainTo(batch, MAX_BATCH_MESSAGES) > 0) {
+                send(batch);
+                batch.clear();
+            }
+        } catch (Exception e) {
+            log.error("PUSH NOTIFICATION ERROR: {}", e.getMessage(), e);
+        }
+    }
+
+    private void send(List<PendingPush> batch) {
+        var messages = batch.stream().map(PendingPush::getMessage).collect(Collectors.toList());
+        long startedAt = System.nanoTime();
+        try {
+            var response = firebaseMessaging.sendAll(messages);
+            batchLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            sentCounter.increment(response.getSuccessCount());
+            failedCounter.increment(response.getFailureCount());
+            if (response.getFailureCount() == 0) {
+                return;
+            }
+
+            Set<String> deadTokens = new HashSet<>();
+            Set<String> suspectTokens = new HashSet<>();
+            var responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                var sendResponse = responses.get(i);
+                if (sendResponse.isSuccessful()) {
+                    continue;
+                }
+                var errorCode = errorCodeOf(sendResponse.getException());
+                if (errorCode == MessagingErrorCode.UNREGISTERED) {
+                    deadTokens.add(batch.get(i).getToken());
+                } else if (errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
+                    suspectTokens.add(batch.get(i).getToken());
+                }
+            }
+            suspectTokens.removeAll(deadTokens);
+            deadTokens.addAll(findInvalidTokens(suspectTokens));
+            if (!deadTokens.isEmpty()) {
+                int purged = fcmRepository.deleteByFireBaseTokenIn(deadTokens);
+                purgedCounter.increment(purged);
+                log.info("purged {} dead FCM tokens", purged);
+            }
+        } catch (FirebaseMessagingException e) {
+            batchLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            failedCounter.increment(batch.size());
+            log.error("PUSH NOTIFICATION ERROR: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * INVALID_ARGUMENT 를 받은 토큰에 payload 없이 토큰만 담은 메시지를 dry run 으로 보낸다.
+     * 이때도 UNREGISTERED / INVALID_ARGUMENT 이면 payload 가 아니라 토큰이 잘못된 것이다.
+     */
+    private Set<String> findInvalidTokens(Set<String> suspectTokens) {
+        if (suspectTokens.isEmpty()) {
+            return Set.of();
+        }
+        List<String> tokens = new ArrayList<>(suspectTokens);
+        var probes = tokens.stream()
+            .map(token -> Message.builder().setToken(token).build())
+            .collect(Collectors.toList());
+        try {
+            var responses = firebaseMessaging.sendAll(probes, true).getResponses();
+            Set<String> invalidTokens = new HashSet<>();
+            for (int i = 0; i < responses.size(); i++) {
+                var errorCode = errorCodeOf(responses.get(i).getException());
+                if (errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
+                    invalidTokens.add(tokens.get(i));
+                }
+            }
+            return invalidTokens;
+        } catch (FirebaseMessagingException e) {
+            log.warn("could not validate {} FCM tokens: {}", tokens.size(), e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private static MessagingErrorCode errorCodeOf(FirebaseMessagingException e) {
+        return e == null ? null : e.getMessagingErrorCode();
+    }
+
+    private static class PendingPush {
+
+        private final String token;
+        private final Message message;
+
+        PendingPush(String token, Message message) {
+            this.token = token;
+            this.message = message;
+        }
+
+        String getToken() {
+            return token;
+        }
+
+        Message getMessage() {
+            return message;
+        }
+    }
+}
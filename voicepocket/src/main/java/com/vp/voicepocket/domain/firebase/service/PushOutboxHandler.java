@@ -0,0 +1,44 @@
+package com.vp.voicepocket.domain.firebase.service;
+
+import com.vp.voicepocket.domain.firebase.dto.PushRequestDto;
+import com.vp.voicepocket.domain.firebase.exception.CFCMTokenNotFoundException;
+import com.vp.voicepocket.domain.outbox.entity.OutboxMessage;
+import com.vp.voicepocket.domain.outbox.entity.OutboxType;
+import com.vp.voicepocket.domain.outbox.service.OutboxMessageHandler;
+import com.vp.voicepocket.domain.outbox.service.OutboxService;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * push executor 나 dispatcher 큐가 포화되어 outbox 로 넘어온 push 를 다시 보낸다.
+ * dispatcher 큐가 아직 가득 차 있으면 실패로 돌려 outbox 행을 남기고, relay 가 backoff 후 다시 시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushOutboxHandler implements OutboxMessageHandler {
+
+    private final OutboxService outboxService;
+    private final PushService pushService;
+
+    @Override
+    public OutboxType getType() {
+        return OutboxType.PUSH;
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatch(OutboxMessage outboxMessage) {
+        var pushRequest = outboxService.readPayload(outboxMessage, PushRequestDto.class);
+        try {
+            if (!pushService.send(pushRequest)) {
+                return CompletableFuture.failedFuture(new IllegalStateException("push queue is full"));
+            }
+        } catch (CFCMTokenNotFoundException e) {
+            // 토큰이 없는 사용자는 다시 시도해도 보낼 수 없으므로 완료로 처리한다.
+            log.info("skip push to user {}: FCM token not found", pushRequest.getUserId());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+}
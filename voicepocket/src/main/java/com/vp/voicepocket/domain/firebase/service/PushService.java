@@ -0,0 +1,40 @@
+package com.vp.voicepocket.domain.firebase.service;
+
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import com.vp.voicepocket.domain.firebase.dto.PushRequestDto;
+import com.vp.voicepocket.domain.firebase.exception.CFCMTokenNotFoundException;
+import com.vp.voicepocket.domain.firebase.repository.FCMRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class PushService {
+    private final FCMRepository fcmRepository;
+    private final PushDispatcher pushDispatcher;
+
+    /**
+     * 사용자의 FCM 토큰을 조회해 PushDispatcher 에 넘긴다.
+     * 토큰 조회 한 번만 DB 커넥션을 사용하고, 실제 전송은 dispatcher 스레드에서 이뤄진다.
+     *
+     * @return dispatcher 큐에 들어갔으면 true. 큐가 가득 차 버려졌으면 false
+     */
+    public boolean send(PushRequestDto pushRequest) {
+        String fcmToken = fcmRepository.findTokenByUserId(pushRequest.getUserId())
+            .orElseThrow(CFCMTokenNotFoundException::new);
+
+        Notification notification = Notification.builder()
+            .setTitle(pushRequest.getTitle())
+            .setBody(pushRequest.getBody())
+            .build();
+
+        Message message = Message.builder()
+            .setToken(fcmToken)
+            .setNotification(notification)
+            .putAllData(pushRequest.getData())
+            .build();
+
+        return pushDispatcher.dispatch(fcmToken, message);
+    }
+}
@@ -0,0 +1,67 @@
+package com.vp.voicepocket.domain.friend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vp.voicepocket.domain.friend.dto.response.FriendResponseDto;
+import com.vp.voicepocket.global.common.cursor.CursorPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 친구 목록(checkResponse)과 받은 친구 요청 목록(checkRequest)의 첫 페이지를 보관하는 캐시.
+ * 앱을 열 때 조회하는 기본 크기의 첫 페이지만 보관하고, 이후 페이지는 항상 DB 에서 조회한다.
+ * Friend 가 저장/변경/삭제되면 FriendCacheEvictionListener 가 양쪽 사용자의 항목을 제거한다.
+ * hit / miss 수치는 cache.* 메트릭(cache=friendList, cache=friendRequest)으로 노출된다.
+ */
+@Slf4j
+@Component
+public class FriendCache {
+
+    private final Cache<Long, CursorPage<FriendResponseDto>> friends;
+    private final Cache<Long, CursorPage<FriendResponseDto>> requests;
+
+    public FriendCache(
+        @Value("${voicepocket.cache.friend.maximum-size:10000}") long maximumSize,
+        @Value("${voicepocket.cache.friend.ttl-seconds:600}") long ttlSeconds,
+        MeterRegistry meterRegistry) {
+        this.friends = build(maximumSize, ttlSeconds);
+        this.requests = build(maximumSize, ttlSeconds);
+        CaffeineCacheMetrics.monitor(meterRegistry, friends, "friendList");
+        CaffeineCacheMetrics.monitor(meterRegistry, requests, "friendRequest");
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회한 결과를 보관한다.
+     */
+    public CursorPage<FriendResponseDto> getFriends(Long userId,
+        Function<Long, CursorPage<FriendResponseDto>> loader) {
+        return friends.get(userId, loader);
+    }
+
+    public CursorPage<FriendResponseDto> getRequests(Long userId,
+        Function<Long, CursorPage<FriendResponseDto>> loader) {
+        return requests.get(userId, loader);
+    }
+
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        friends.invalidate(userId);
+        requests.invalidate(userId);
+        log.debug("friend cache evicted: {}", userId);
+    }
+
+    private static Cache<Long, CursorPage<FriendResponseDto>> build(long maximumSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.vp.voicepocket.domain.friend.cache;
+
+import com.vp.voicepocket.domain.friend.entity.Friend;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Friend 가 저장(requestFriend), 변경(update), 삭제(delete)되면 요청한 사용자와 요청받은 사용자의 FriendCache 를 비운다.
+ * 커밋 전에 다른 요청이 이전 값을 다시 채울 수 있으므로 커밋 직후에 한 번 더 비운다.
+ */
+@Component
+public class FriendCacheEvictionListener {
+
+    private final ObjectProvider<FriendCache> friendCache;
+
+    public FriendCacheEvictionListener(ObjectProvider<FriendCache> friendCache) {
+        this.friendCache = friendCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Friend friend) {
+        var requestFromId = friend.getRequestFrom().getId();
+        var requestToId = friend.getRequestTo().getId();
+        friendCache.ifAvailable(cache -> {
+            evict(cache, requestFromId, requestToId);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evict(cache, requestFromId, requestToId);
+                        }
+                    });
+            }
+        });
+    }
+
+    private void evict(FriendCache cache, Long requestFromId, Long requestToId) {
+        cache.evict(requestFromId);
+        cache.evict(requestToId);
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -46,15 +47,19 @@ public class FriendController {
     @Operation(summary = "친구 요청 리스트 확인", description = "나에게 온 친구 요청을 확인합니다.")
     @GetMapping("/friend/requests")
     public ListResult<FriendResponseDto> checkRequest(
-        @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseFactory.createListResult(friendService.checkRequest(userDetails));
+        @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "" + FriendService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseFactory.createListResult(friendService.checkRequest(userDetails, cursor, size));
     }
 
     @Operation(summary = "친구 리스트 조회", description = "내 친구 리스트를 조회합니다.")
     @GetMapping("/friend")
     public ListResult<FriendResponseDto> checkResponse(
-        @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseFactory.createListResult(friendService.checkResponse(userDetails));
+        @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "" + FriendService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseFactory.createListResult(friendService.checkResponse(userDetails, cursor, size));
     }
 
     @Operation(summary = "친구 요청 취소", description = "친구 요청을 취소합니다.")
@@ -2,25 +2,32 @@ package com.vp.voicepocket.domain.friend.dto.response;
 
 import com.vp.voicepocket.domain.friend.entity.Friend;
 import com.vp.voicepocket.domain.friend.entity.Status;
-import lombok.AccessLevel;
+import com.vp.voicepocket.global.common.cursor.Cursor;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor // FriendRepository 의 constructor expression 에서 사용
 public class FriendResponseDto {
 
     private final Long id;
     private final Long requestFromId;
     private final Long requestToId;
     private final Status status;
+    private final LocalDateTime createdDate;
 
     public static FriendResponseDto from(Friend friend) {
         return new FriendResponseDto(
             friend.getId(),
             friend.getRequestFrom().getId(),
             friend.getRequestTo().getId(),
-            friend.getStatus()
+            friend.getStatus(),
+            friend.getCreatedDate()
         );
     }
+
+    public Cursor toCursor() {
+        return Cursor.of(createdDate, id);
+    }
 }
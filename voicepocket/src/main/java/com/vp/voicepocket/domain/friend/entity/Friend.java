@@ -1,16 +1,19 @@
 package com.vp.voicepocket.domain.friend.entity;
 
+import com.vp.voicepocket.domain.friend.cache.FriendCacheEvictionListener;
 import com.vp.voicepocket.domain.user.entity.User;
 import com.vp.voicepocket.domain.user.exception.CUserNotFoundException;
 import com.vp.voicepocket.global.common.BaseEntity;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -26,8 +29,13 @@ import lombok.NoArgsConstructor;
     @UniqueConstraint(
         columnNames = {"request_from", "request_to"}
     )
+}, indexes = {
+    // 친구/요청 목록의 keyset 페이지네이션 (created_date, id) 정렬까지 인덱스로 처리
+    @Index(name = "idx_friends_request_from_status", columnList = "request_from, status, created_date"),
+    @Index(name = "idx_friends_request_to_status", columnList = "request_to, status, created_date")
 })
 @Entity
+@EntityListeners(FriendCacheEvictionListener.class)
 public class Friend extends BaseEntity {
 
     @Id
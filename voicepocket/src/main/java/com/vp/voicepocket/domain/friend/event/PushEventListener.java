@@ -1,97 +1,107 @@
 package com.vp.voicepocket.domain.friend.event;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
-import com.vp.voicepocket.domain.firebase.entity.FCMUserToken;
+import com.vp.voicepocket.domain.firebase.dto.PushRequestDto;
 import com.vp.voicepocket.domain.firebase.exception.CFCMTokenNotFoundException;
-import com.vp.voicepocket.domain.firebase.repository.FCMRepository;
+import com.vp.voicepocket.domain.firebase.service.PushService;
+import com.vp.voicepocket.domain.outbox.entity.OutboxType;
+import com.vp.voicepocket.domain.outbox.service.OutboxService;
 import com.vp.voicepocket.domain.user.entity.User;
-import java.util.HashMap;
-import lombok.RequiredArgsConstructor;
+import com.vp.voicepocket.global.config.AsyncConfiguration;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 친구 요청/수락이 커밋된 뒤 push 를 보낸다.
+ *
+ * push 에 필요한 값(대상 userId, 이름)은 커밋 직후 이벤트 스레드에서 꺼내 PushRequestDto 로 만들고,
+ * 토큰 조회와 전송은 pushTaskExecutor 에서 처리한다. executor 가 거절하거나 dispatcher 큐가 가득 차면 outbox 에 남긴다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PushEventListener {
-    private final FirebaseMessaging firebaseMessaging;
-    private final FCMRepository fcmRepository;
+    private final PushService pushService;
+    private final OutboxService outboxService;
+    private final TaskExecutor pushTaskExecutor;
+    private final TransactionTemplate outboxTransactionTemplate;
+
+    public PushEventListener(PushService pushService, OutboxService outboxService,
+        @Qualifier(AsyncConfiguration.PUSH_TASK_EXECUTOR) TaskExecutor pushTaskExecutor,
+        PlatformTransactionManager transactionManager) {
+        this.pushService = pushService;
+        this.outboxService = outboxService;
+        this.pushTaskExecutor = pushTaskExecutor;
+        this.outboxTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxTransactionTemplate.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void sendFriendRequestPushMessage(FriendRequestPushEvent friendRequestPushEvent) {
         User toUser = friendRequestPushEvent.getFriend().getRequestTo();
         User fromUser = friendRequestPushEvent.getFriend().getRequestFrom();
 
-        FCMUserToken fcmEntity = fcmRepository.findByUserId(toUser)
-            .orElseThrow(CFCMTokenNotFoundException::new);
-        String fcmToken = fcmEntity.getFireBaseToken();
-
-        try {
-            Message message = getFriendRequestPushMessage(fromUser.getName(), fcmToken);
-            firebaseMessaging.send(message);
-        } catch (FirebaseMessagingException e) {
-            log.error("PUSH NOTIFICATION ERROR: {}", e.getMessage());
-        }
+        submit(getFriendRequestPush(fromUser.getName(), toUser.getId()));
     }
 
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void sendFriendAcceptPushMessage(FriendAcceptPushEvent friendAcceptPushEvent) {
         User toUser = friendAcceptPushEvent.getFriend().getRequestTo();
         User fromUser = friendAcceptPushEvent.getFriend().getRequestFrom();
 
-        FCMUserToken fcmEntity = fcmRepository.findByUserId(fromUser)
-            .orElseThrow(CFCMTokenNotFoundException::new);
-        String fcmToken = fcmEntity.getFireBaseToken();
+        submit(getFriendAcceptPush(toUser.getName(), fromUser.getId()));
+    }
 
+    private void submit(PushRequestDto pushRequest) {
         try {
-            Message message = getFriendAcceptPushMessage(toUser.getName(), fcmToken);
-            firebaseMessaging.send(message);
-        } catch (FirebaseMessagingException e) {
-            log.error("PUSH NOTIFICATION ERROR: {}", e.getMessage());
+            pushTaskExecutor.execute(() -> send(pushRequest));
+        } catch (TaskRejectedException e) {
+            log.warn("push executor is saturated, moving push to outbox: user {}", pushRequest.getUserId());
+            saveToOutbox(pushRequest);
         }
     }
 
-    private Message getFriendRequestPushMessage(String fromUserName, String fcmToken) {
-        Notification notification = Notification.builder()
-            .setTitle("Friend Request")
-            .setBody(fromUserName + " request Friend to you!")
-            .build();
-
-        HashMap<String, String> data = new HashMap<>();
-        data.put("ID", "1");
+    private void send(PushRequestDto pushRequest) {
+        try {
+            if (!pushService.send(pushRequest)) {
+                log.warn("push queue is full, moving push to outbox: user {}", pushRequest.getUserId());
+                saveToOutbox(pushRequest);
+            }
+        } catch (CFCMTokenNotFoundException e) {
+            log.info("skip push to user {}: FCM token not found", pushRequest.getUserId());
+        } catch (RuntimeException e) {
+            log.error("PUSH NOTIFICATION ERROR: {}", e.getMessage());
+        }
+    }
 
-        return Message.builder()
-            .setToken(fcmToken)
-            .setNotification(notification)
-            .putAllData(data)
-            .build();
+    private void saveToOutbox(PushRequestDto pushRequest) {
+        outboxTransactionTemplate.executeWithoutResult(
+            status -> outboxService.save(OutboxType.PUSH, pushRequest));
     }
 
-    private Message getFriendAcceptPushMessage(String toUserName, String fcmToken) {
-        Notification notification = Notification.builder()
-            .setTitle("Friend Accept")
-            .setBody(toUserName + " Accept your Friend Request!")
+    private PushRequestDto getFriendRequestPush(String fromUserName, Long toUserId) {
+        return PushRequestDto.builder()
+            .userId(toUserId)
+            .title("Friend Request")
+            .body(fromUserName + " request Friend to you!")
+            .data(Map.of("ID", "1"))
             .build();
+    }
 
-        HashMap<String, String> data = new HashMap<>();
-        data.put("ID", "2");
-
-        return Message.builder()
-            .setToken(fcmToken)
-            .setNotification(notification)
-            .putAllData(data)
+    private PushRequestDto getFriendAcceptPush(String toUserName, Long fromUserId) {
+        return PushRequestDto.builder()
+            .userId(fromUserId)
+            .title("Friend Accept")
+            .body(toUserName + " Accept your Friend Request!")
+            .data(Map.of("ID", "2"))
             .build();
     }
 }
@@ -1,26 +1,48 @@
 package com.vp.voicepocket.domain.friend.repository;
 
+import com.vp.voicepocket.domain.friend.dto.response.FriendResponseDto;
 import com.vp.voicepocket.domain.friend.entity.Friend;
 import com.vp.voicepocket.domain.user.entity.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 @Repository
 public interface FriendRepository extends JpaRepository<Friend, Long> {
-    @Query(value = "select f from Friend f where f.requestFrom.email = ?1 and f.requestTo.id = ?2 and f.status = 'ONGOING'")
+    // 수락 후 push 에서 양쪽 사용자 이름을 사용하므로 함께 가져온다.
+    @Query(value = "select f from Friend f join fetch f.requestFrom rf join fetch f.requestTo where rf.email = ?1 and f.requestTo.id = ?2 and f.status = 'ONGOING'")
     Optional<Friend> findByRequest(String email, Long id);
 
-    @Query(value = "select f from Friend f where f.requestFrom.id = ?1 and f.status = 'ACCEPT'")
-    List<Friend> findByFromUser(Long id);
+    // Users 조인 없이 Friends 의 FK 컬럼만으로 FriendResponseDto 를 만든다.
+    // 목록은 (createdDate, id) 내림차순 keyset 으로 페이지를 나눈다. 페이지 크기는 pageable 로 전달한다.
+    @Query(value = "select new com.vp.voicepocket.domain.friend.dto.response.FriendResponseDto(f.id, f.requestFrom.id, f.requestTo.id, f.status, f.createdDate) "
+        + "from Friend f where f.requestFrom.id = ?1 and f.status = 'ACCEPT' "
+        + "order by f.createdDate desc, f.id desc")
+    List<FriendResponseDto> findResponseDtosByFromUser(Long id, Pageable pageable);
+
+    @Query(value = "select new com.vp.voicepocket.domain.friend.dto.response.FriendResponseDto(f.id, f.requestFrom.id, f.requestTo.id, f.status, f.createdDate) "
+        + "from Friend f where f.requestFrom.id = ?1 and f.status = 'ACCEPT' "
+        + "and (f.createdDate < ?2 or (f.createdDate = ?2 and f.id < ?3)) "
+        + "order by f.createdDate desc, f.id desc")
+    List<FriendResponseDto> findResponseDtosByFromUserBefore(Long id, LocalDateTime createdDate, Long friendId, Pageable pageable);
 
     @Query("select f from Friend f where f.requestFrom.id = ?1 and f.requestTo = ?2 and f.status <> 'REJECT'")
     Optional<Friend> findByRequestUsers(Long requestFromId, User requestToId);
 
-    @Query("select f from Friend f where f.requestFrom.id = ?1 and f.requestTo.email = ?2 and f.status = 'ONGOING'")
+    @Query("select f from Friend f join fetch f.requestTo rt where f.requestFrom.id = ?1 and rt.email = ?2 and f.status = 'ONGOING'")
     Optional<Friend> findByUserIdAndEmail(Long id, String email);
 
-    @Query("select f from Friend f where f.requestTo.id = ?1 and f.status = 'ONGOING'")
-    Optional<Friend> findByToUser(Long id);
+    @Query("select new com.vp.voicepocket.domain.friend.dto.response.FriendResponseDto(f.id, f.requestFrom.id, f.requestTo.id, f.status, f.createdDate) "
+        + "from Friend f where f.requestTo.id = ?1 and f.status = 'ONGOING' "
+        + "order by f.createdDate desc, f.id desc")
+    List<FriendResponseDto> findResponseDtosByToUser(Long id, Pageable pageable);
+
+    @Query("select new com.vp.voicepocket.domain.friend.dto.response.FriendResponseDto(f.id, f.requestFrom.id, f.requestTo.id, f.status, f.createdDate) "
+        + "from Friend f where f.requestTo.id = ?1 and f.status = 'ONGOING' "
+        + "and (f.createdDate < ?2 or (f.createdDate = ?2 and f.id < ?3)) "
+        + "order by f.createdDate desc, f.id desc")
+    List<FriendResponseDto> findResponseDtosByToUserBefore(Long id, LocalDateTime createdDate, Long friendId, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package com.vp.voicepocket.domain.friend.service;
 
+import com.vp.voicepocket.domain.friend.cache.FriendCache;
 import com.vp.voicepocket.domain.friend.dto.request.FriendRequestDto;
 import com.vp.voicepocket.domain.friend.dto.response.FriendResponseDto;
 import com.vp.voicepocket.domain.friend.entity.Friend;
@@ -12,12 +13,14 @@ import com.vp.voicepocket.domain.friend.repository.FriendRepository;
 import com.vp.voicepocket.domain.user.entity.User;
 import com.vp.voicepocket.domain.user.exception.CUserNotFoundException;
 import com.vp.voicepocket.domain.user.repository.UserRepository;
-import java.util.List;
-import java.util.stream.Collectors;
+import com.vp.voicepocket.global.common.cursor.Cursor;
+import com.vp.voicepocket.global.common.cursor.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -25,9 +28,13 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class FriendService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final FriendRepository friendRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final FriendCache friendCache;
 
     public FriendResponseDto requestFriend(UserDetails userDetails, String toUserEmail) {
         Long fromUserId = getUserIdWithUserDetails(userDetails);
@@ -46,25 +53,51 @@ public class FriendService {
         return FriendResponseDto.from(friendRequest);
     }
 
-    @Transactional(readOnly = true)
-    public List<FriendResponseDto> checkRequest(UserDetails userDetails) {
+    // 캐시 hit 시 커넥션을 잡지 않도록 트랜잭션을 열지 않는다. (miss 시 repository 조회가 자체 트랜잭션을 사용)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPage<FriendResponseDto> checkRequest(UserDetails userDetails, String cursor, int size) {
         Long userId = getUserIdWithUserDetails(userDetails);
-        return friendRepository.findByToUser(userId)   // 없을 때 공백 리스트를 반환하기
-            .stream()
-            .map(FriendResponseDto::from)
-            .collect(Collectors.toList());
+        int pageSize = getPageSize(size);
+        Cursor position = Cursor.decode(cursor);
+        if (position == null && pageSize == DEFAULT_PAGE_SIZE) {
+            return friendCache.getRequests(userId, id -> findRequests(id, null, pageSize));
+        }
+        return findRequests(userId, position, pageSize);
     }
 
-    @Transactional(readOnly = true)
-    public List<FriendResponseDto> checkResponse(UserDetails userDetails) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPage<FriendResponseDto> checkResponse(UserDetails userDetails, String cursor, int size) {
         Long userId = getUserIdWithUserDetails(userDetails);
+        int pageSize = getPageSize(size);
+        Cursor position = Cursor.decode(cursor);
+        if (position == null && pageSize == DEFAULT_PAGE_SIZE) {
+            return friendCache.getFriends(userId, id -> findFriends(id, null, pageSize));
+        }
+        return findFriends(userId, position, pageSize);
+    }
 
-        return friendRepository.findByFromUser(userId)   // 없을 때 공백 리스트를 반환하기
-            .stream()
-            .map(FriendResponseDto::from)
-            .collect(Collectors.toList());
+    // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회한다.
+    private CursorPage<FriendResponseDto> findRequests(Long userId, Cursor position, int size) {
+        var pageable = PageRequest.of(0, size + 1);
+        var rows = position == null
+            ? friendRepository.findResponseDtosByToUser(userId, pageable)
+            : friendRepository.findResponseDtosByToUserBefore(
+                userId, position.getCreatedDate(), position.getId(), pageable);
+        return CursorPage.of(rows, size, FriendResponseDto::toCursor);
     }
 
+    private CursorPage<FriendResponseDto> findFriends(Long userId, Cursor position, int size) {
+        var pageable = PageRequest.of(0, size + 1);
+        var rows = position == null
+            ? friendRepository.findResponseDtosByFromUser(userId, pageable)
+            : friendRepository.findResponseDtosByFromUserBefore(
+                userId, position.getCreatedDate(), position.getId(), pageable);
+        return CursorPage.of(rows, size, FriendResponseDto::toCursor);
+    }
+
+    private int getPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
 
     public void update(UserDetails userDetails, String email, Status status) {
         Long userId = getUserIdWithUserDetails(userDetails);
@@ -0,0 +1,50 @@
+package com.vp.voicepocket.domain.message.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vp.voicepocket.domain.message.dto.TtsJobResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /api/tts/{uuid} 로 조회한 끝난(DONE / FAILED) 작업을 보관하는 작은 캐시.
+ * 끝난 작업은 더 이상 바뀌지 않으므로 여러 인스턴스에서도 오래된 값을 돌려주지 않는다.
+ * QUEUED / RUNNING 은 다른 인스턴스에서 결과를 처리할 수 있으므로 보관하지 않고 매번 DB 에서 읽는다.
+ * hit / miss 수치는 cache.* 메트릭(cache=ttsJob)으로 노출된다.
+ */
+@Component
+public class TtsJobCache {
+
+    private final Cache<String, TtsJobResponseDto> cache;
+
+    public TtsJobCache(
+        @Value("${voicepocket.cache.tts-job.maximum-size:10000}") long maximumSize,
+        @Value("${voicepocket.cache.tts-job.ttl-seconds:600}") long ttlSeconds,
+        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ttsJob");
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회하고, 끝난 작업이면 보관한다. loader 가 예외를 던지면 저장하지 않는다.
+     */
+    public TtsJobResponseDto get(String uuid, Function<String, TtsJobResponseDto> loader) {
+        var cached = cache.getIfPresent(uuid);
+        if (cached != null) {
+            return cached;
+        }
+        var job = loader.apply(uuid);
+        if (job.getStatus().isFinished()) {
+            cache.put(uuid, job);
+        }
+        return job;
+    }
+}
@@ -0,0 +1,88 @@
+package com.vp.voicepocket.domain.message.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * (requestTo, 정규화한 text) 의 content hash -> 합성된 wav url 을 보관하는 캐시.
+ * 같은 모델로 같은 문장을 다시 요청하면 TTS 서버를 거치지 않고 이전 결과를 돌려주기 위해 쓴다.
+ * 원본은 tts_job 의 DONE 작업이며, 캐시에는 결과가 있는 hash 만 저장한다.
+ * hit / miss 수치는 cache.* 메트릭(cache=ttsResult)으로 노출된다.
+ */
+@Component
+public class TtsResultCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Cache<String, String> cache;
+
+    public TtsResultCache(
+        @Value("${voicepocket.cache.tts-result.maximum-size:100000}") long maximumSize,
+        @Value("${voicepocket.cache.tts-result.ttl-minutes:1440}") long ttlMinutes,
+        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ttsResult");
+    }
+
+    /**
+     * 유니코드 정규화(NFC) 후 앞뒤 공백을 자르고 연속된 공백을 하나로 줄인 text 와 모델 email 로 hash 를 만든다.
+     * 대소문자와 문장부호는 발음에 영향을 주므로 그대로 둔다.
+     */
+    public static String contentHash(String requestTo, String text) {
+        var normalized = WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFC).strip())
+            .replaceAll(" ");
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(requestTo.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            var hash = digest.digest(normalized.getBytes(StandardCharsets.UTF_8));
+            var hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회한다. loader 가 null 을 돌려주면(결과 없음) 저장하지 않는다.
+     */
+    public String get(String contentHash, Function<String, String> loader) {
+        return cache.get(contentHash, loader);
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋된 뒤에, 없으면 바로 저장한다.
+     */
+    public void putAfterCommit(String contentHash, String wavUrl) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(contentHash, wavUrl);
+                }
+            });
+        } else {
+            cache.put(contentHash, wavUrl);
+        }
+    }
+}
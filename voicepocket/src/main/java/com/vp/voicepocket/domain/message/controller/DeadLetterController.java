@@ -0,0 +1,44 @@
+package com.vp.voicepocket.domain.message.controller;
+
+import com.vp.voicepocket.domain.message.dto.DeadLetterResponseDto;
+import com.vp.voicepocket.domain.message.service.OutputDeadLetterService;
+import com.vp.voicepocket.global.common.response.ResponseFactory;
+import com.vp.voicepocket.global.common.response.model.ListResult;
+import com.vp.voicepocket.global.common.response.model.SingleResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Dead Letter")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/admin")
+public class DeadLetterController {
+
+    private static final int MAX_PEEK = 100;
+    private static final int MAX_REPLAY = 1000;
+
+    private final OutputDeadLetterService outputDeadLetterService;
+
+    @Operation(summary = "Dead-letter 조회", description = "처리하지 못한 TTS 결과 메시지를 큐에서 꺼내지 않고 조회합니다.")
+    @GetMapping("/dead-letters/output")
+    public ListResult<DeadLetterResponseDto> findDeadLetters(
+        @Parameter(description = "조회할 최대 건수 (최대 100)") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseFactory.createListResult(
+            outputDeadLetterService.findDeadLetters(Math.max(1, Math.min(limit, MAX_PEEK))));
+    }
+
+    @Operation(summary = "Dead-letter 재처리", description = "처리하지 못한 TTS 결과 메시지를 output.queue 로 다시 보내고 보낸 건수를 반환합니다.")
+    @PostMapping("/dead-letters/output/replay")
+    public SingleResult<Integer> replay(
+        @Parameter(description = "다시 보낼 최대 건수 (최대 1000)") @RequestParam(defaultValue = "100") int limit) {
+        return ResponseFactory.createSingleResult(
+            outputDeadLetterService.replay(Math.max(1, Math.min(limit, MAX_REPLAY))));
+    }
+}
@@ -1,19 +1,32 @@
 package com.vp.voicepocket.domain.message.controller;
 
+import com.vp.voicepocket.domain.message.dto.TTSBatchRequestDto;
+import com.vp.voicepocket.domain.message.dto.TTSBatchResultDto;
 import com.vp.voicepocket.domain.message.dto.TTSRequestDto;
+import com.vp.voicepocket.domain.message.dto.TtsJobResponseDto;
 import com.vp.voicepocket.domain.message.service.InputMessageService;
+import com.vp.voicepocket.domain.message.service.TtsAdmissionController;
+import com.vp.voicepocket.domain.message.service.TtsEventBroadcaster;
+import com.vp.voicepocket.domain.message.service.TtsJobService;
 import com.vp.voicepocket.global.common.response.ResponseFactory;
 import com.vp.voicepocket.global.common.response.model.CommonResult;
+import com.vp.voicepocket.global.common.response.model.ListResult;
+import com.vp.voicepocket.global.common.response.model.SingleResult;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,13 +35,42 @@ import org.springframework.web.bind.annotation.RestController;
 public class MessageController {
 
     private final InputMessageService inputMessageService;
+    private final TtsAdmissionController ttsAdmissionController;
+    private final TtsJobService ttsJobService;
+    private final TtsEventBroadcaster ttsEventBroadcaster;
 
     @Operation(summary = "TTS 요청", description = "Text To Speech 서비스를 요청합니다.")
     @PostMapping("/tts/send")
     public CommonResult send(
         @AuthenticationPrincipal UserDetails userDetails,
         @RequestBody @Valid TTSRequestDto ttsRequestDto) {
+        ttsAdmissionController.admit(userDetails, 1);
         inputMessageService.sendMessage(userDetails, ttsRequestDto);
         return ResponseFactory.createSuccessResult();
     }
+
+    @Operation(summary = "TTS 일괄 요청", description = "여러 문장의 Text To Speech 서비스를 한 번에 요청하고 항목별 접수 결과를 반환합니다.")
+    @PostMapping("/tts/send/batch")
+    public ListResult<TTSBatchResultDto> sendBatch(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestBody @Valid TTSBatchRequestDto ttsBatchRequestDto) {
+        ttsAdmissionController.admit(userDetails, ttsBatchRequestDto.getRequests().size());
+        return ResponseFactory.createListResult(
+            inputMessageService.sendMessages(userDetails, ttsBatchRequestDto.getRequests()));
+    }
+
+    @Operation(summary = "TTS 완료 이벤트 구독",
+        description = "TTS 요청이 완료(DONE/FAILED)되면 tts 이벤트로 작업 상태를 보냅니다. (text/event-stream)")
+    @GetMapping(value = "/tts/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@AuthenticationPrincipal UserDetails userDetails) {
+        return ttsEventBroadcaster.subscribe(Long.parseLong(userDetails.getUsername()));
+    }
+
+    @Operation(summary = "TTS 요청 상태 조회", description = "요청한 TTS 의 처리 상태(QUEUED/RUNNING/DONE/FAILED)를 조회합니다.")
+    @GetMapping("/tts/{uuid}")
+    public SingleResult<TtsJobResponseDto> findJob(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @Parameter(description = "Request UUID", required = true) @PathVariable String uuid) {
+        return ResponseFactory.createSingleResult(ttsJobService.findJob(userDetails, uuid));
+    }
 }
@@ -0,0 +1,43 @@
+package com.vp.voicepocket.domain.message.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Schema(title = "Dead-letter 메시지", description = "처리하지 못하고 output.dead.queue 에 남은 TTS 결과 메시지")
+public class DeadLetterResponseDto {
+
+    @Schema(title = "uuid", description = "TTS 요청 UUID")
+    private final String uuid;
+
+    @Schema(title = "Requesting User", description = "음성 합성을 요청한 사용자")
+    private final String requestFrom;
+
+    @Schema(title = "Request To User", description = "음성 합성 모델 Email")
+    private final String requestTo;
+
+    @Schema(title = "TTS 결과", description = "TTS 서버가 보낸 결과")
+    private final String result;
+
+    @Schema(title = "재시도 횟수", description = "dead-letter 되기 전까지 retry queue 를 거친 횟수")
+    private final int retries;
+
+    @Schema(title = "예외", description = "마지막으로 발생한 예외 클래스")
+    private final String exception;
+
+    @Schema(title = "사유", description = "마지막으로 발생한 예외 메시지")
+    private final String reason;
+
+    @Builder
+    public DeadLetterResponseDto(String uuid, String requestFrom, String requestTo, String result,
+        int retries, String exception, String reason) {
+        this.uuid = uuid;
+        this.requestFrom = requestFrom;
+        this.requestTo = requestTo;
+        this.result = result;
+        this.retries = retries;
+        this.exception = exception;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,24 @@
+package com.vp.voicepocket.domain.message.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(title = "TTS 일괄 요청 모델", description = "여러 문장의 TTS 요청을 한 번에 받을 모델")
+public class TTSBatchRequestDto {
+
+    public static final int MAX_SIZE = 100;
+
+    // 항목별 검증은 InputMessageService 에서 하나씩 수행하여 항목 단위로 거절한다.
+    @Schema(title = "TTS 요청 목록", description = "한 번에 최대 100개")
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<TTSRequestDto> requests;
+}
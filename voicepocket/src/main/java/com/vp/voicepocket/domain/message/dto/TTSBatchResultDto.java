@@ -0,0 +1,32 @@
+package com.vp.voicepocket.domain.message.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Schema(title = "TTS 일괄 요청 결과", description = "일괄 요청의 항목별 접수 여부")
+public class TTSBatchResultDto {
+
+    @Schema(title = "Index", description = "요청 목록에서의 위치")
+    private final int index;
+
+    @Schema(title = "Request UUID", description = "TTS 요청에 대한 UUID")
+    private final String uuid;
+
+    @Schema(title = "Accepted", description = "접수 여부")
+    private final boolean accepted;
+
+    @Schema(title = "Reason", description = "거절된 경우 사유")
+    private final String reason;
+
+    public static TTSBatchResultDto accepted(int index, String uuid) {
+        return new TTSBatchResultDto(index, uuid, true, null);
+    }
+
+    public static TTSBatchResultDto rejected(int index, String uuid, String reason) {
+        return new TTSBatchResultDto(index, uuid, false, reason);
+    }
+}
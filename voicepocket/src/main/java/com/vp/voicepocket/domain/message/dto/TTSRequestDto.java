@@ -3,6 +3,7 @@ package com.vp.voicepocket.domain.message.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -23,7 +24,8 @@ public class TTSRequestDto {
     @Email
     private String requestTo;
 
-    @Schema(title = "Text", description = "합성을 원하는 문장", example = "테스트 문장입니다.")
+    @Schema(title = "Text", description = "합성을 원하는 문장. 긴 문장은 나누어 합성한다", example = "테스트 문장입니다.")
     @NotBlank
+    @Size(max = 5000)
     private String text;
 }
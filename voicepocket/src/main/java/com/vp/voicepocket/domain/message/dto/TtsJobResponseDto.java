@@ -0,0 +1,53 @@
+package com.vp.voicepocket.domain.message.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.vp.voicepocket.domain.message.entity.TtsJob;
+import com.vp.voicepocket.domain.message.entity.TtsJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+@Schema(title = "TTS 작업 상태", description = "TTS 요청의 처리 상태")
+public class TtsJobResponseDto {
+
+    @Schema(title = "Request UUID", description = "TTS 요청에 대한 UUID")
+    private final String uuid;
+
+    @Schema(title = "Status", description = "QUEUED / RUNNING / DONE / FAILED")
+    private final TtsJobStatus status;
+
+    @Schema(title = "wav url", description = "합성된 음성 url (DONE 인 경우)")
+    private final String wavUrl;
+
+    @Schema(title = "wav urls", description = "나누어 합성한 요청의 조각별 음성 url, 재생 순서 (DONE 인 경우)")
+    private final List<String> wavUrls;
+
+    @Schema(title = "Failure reason", description = "실패 사유 (FAILED 인 경우)")
+    private final String failureReason;
+
+    private final LocalDateTime createdDate;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime completedAt;
+
+    // 요청자 확인용. 응답에는 포함하지 않는다.
+    @JsonIgnore
+    private final Long requestFromId;
+
+    public TtsJobResponseDto(TtsJob ttsJob) {
+        this(ttsJob, null);
+    }
+
+    public TtsJobResponseDto(TtsJob ttsJob, List<String> wavUrls) {
+        this.uuid = ttsJob.getUuid();
+        this.status = ttsJob.getStatus();
+        this.wavUrl = ttsJob.getWavUrl();
+        this.wavUrls = wavUrls;
+        this.failureReason = ttsJob.getFailureReason();
+        this.createdDate = ttsJob.getCreatedDate();
+        this.startedAt = ttsJob.getStartedAt();
+        this.completedAt = ttsJob.getCompletedAt();
+        this.requestFromId = ttsJob.getRequestFromId();
+    }
+}
@@ -0,0 +1,126 @@
+package com.vp.voicepocket.domain.message.entity;
+
+import com.vp.voicepocket.domain.message.enums.TtsLane;
+import com.vp.voicepocket.global.common.BaseEntity;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * TTS 요청 한 건의 처리 상태. 요청의 uuid 로 식별한다.
+ * 접수 시각은 createdDate, 브로커 발행 시각은 startedAt, 결과 수신 시각은 completedAt 이다.
+ *
+ * contentHash 는 (requestTo, 정규화한 text) 의 SHA-256 이다. 같은 내용이 이미 합성 중이면
+ * 새 작업은 브로커로 보내지 않고 leaderUuid 로 그 작업을 가리키며, leader 의 결과를 그대로 받는다.
+ *
+ * 긴 문장은 chunkCount 개의 조각으로 나누어 합성한다. 조각별 결과는 TtsJobChunk 에 쌓이고,
+ * 모두 성공하면 첫 조각의 url 을 wavUrl 로 하여 DONE, 하나라도 실패하면 FAILED 가 된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tts_job", uniqueConstraints = {
+    @UniqueConstraint(name = TtsJob.UUID_UNIQUE_KEY, columnNames = {"uuid"})
+}, indexes = {
+    @Index(name = "idx_tts_job_content_hash_status", columnList = "content_hash, status"),
+    @Index(name = "idx_tts_job_leader_uuid", columnList = "leader_uuid"),
+    @Index(name = "idx_tts_job_status_lane", columnList = "status, lane")
+})
+@Entity
+public class TtsJob extends BaseEntity {
+
+    public static final String UUID_UNIQUE_KEY = "uk_tts_job_uuid";
+
+    private static final int MAX_REASON_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "uuid", nullable = false, length = 64)
+    private String uuid;
+
+    @Column(name = "request_from_id", nullable = false)
+    private Long requestFromId;
+
+    // 결과를 Firestore 에 기록할 때 쓰는 요청자 email. (User.email 과 같은 길이)
+    @Column(name = "request_from", nullable = false, length = 30)
+    private String requestFrom;
+
+    @Column(name = "request_to", nullable = false, length = 30)
+    private String requestTo;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "leader_uuid", length = 64)
+    private String leaderUuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private TtsJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "lane", nullable = false, length = 20)
+    private TtsLane lane;
+
+    @Column(name = "chunk_count", nullable = false)
+    private int chunkCount;
+
+    @Column(name = "wav_url")
+    private String wavUrl;
+
+    @Column(name = "failure_reason", length = MAX_REASON_LENGTH)
+    private String failureReason;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Builder
+    private TtsJob(String uuid, Long requestFromId, String requestFrom, String requestTo,
+        String contentHash, String leaderUuid, TtsLane lane, int chunkCount) {
+        this.uuid = uuid;
+        this.requestFromId = requestFromId;
+        this.requestFrom = requestFrom;
+        this.requestTo = requestTo;
+        this.contentHash = contentHash;
+        this.leaderUuid = leaderUuid;
+        this.lane = lane;
+        this.chunkCount = Math.max(1, chunkCount);
+        this.status = TtsJobStatus.QUEUED;
+    }
+
+    /**
+     * @return 여러 조각으로 나누어 합성하는 작업인지 여부
+     */
+    public boolean isChunked() {
+        return chunkCount > 1;
+    }
+
+    public void complete(String wavUrl) {
+        this.status = TtsJobStatus.DONE;
+        this.wavUrl = wavUrl;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String reason) {
+        this.status = TtsJobStatus.FAILED;
+        this.failureReason = reason == null || reason.length() <= MAX_REASON_LENGTH
+            ? reason : reason.substring(0, MAX_REASON_LENGTH);
+        this.completedAt = LocalDateTime.now();
+    }
+}
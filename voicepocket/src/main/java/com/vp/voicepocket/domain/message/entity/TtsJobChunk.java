@@ -0,0 +1,55 @@
+package com.vp.voicepocket.domain.message.entity;
+
+import com.vp.voicepocket.global.common.BaseEntity;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 조각으로 나누어 합성한 TtsJob 의 조각별 결과. (job_uuid, chunk_index) 로 식별한다.
+ * 성공한 조각은 wavUrl, 실패한 조각은 failureReason 을 가진다.
+ * 모든 조각이 성공하면 chunk_index 순서의 wavUrl 목록이 작업의 결과(manifest)가 된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tts_job_chunk", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_tts_job_chunk_job_uuid_chunk_index", columnNames = {"job_uuid", "chunk_index"})
+})
+@Entity
+public class TtsJobChunk extends BaseEntity {
+
+    private static final int MAX_REASON_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_uuid", nullable = false, length = 64)
+    private String jobUuid;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    @Column(name = "wav_url")
+    private String wavUrl;
+
+    @Column(name = "failure_reason", length = MAX_REASON_LENGTH)
+    private String failureReason;
+
+    @Builder
+    private TtsJobChunk(String jobUuid, int chunkIndex, String wavUrl, String failureReason) {
+        this.jobUuid = jobUuid;
+        this.chunkIndex = chunkIndex;
+        this.wavUrl = wavUrl;
+        this.failureReason = failureReason == null || failureReason.length() <= MAX_REASON_LENGTH
+            ? failureReason : failureReason.substring(0, MAX_REASON_LENGTH);
+    }
+}
@@ -0,0 +1,14 @@
+package com.vp.voicepocket.domain.message.entity;
+
+public enum TtsJobStatus {
+    // outbox 에 저장되어 브로커로 발행되기를 기다리는 중
+    QUEUED,
+    // 브로커가 요청을 수락하여 TTS 서버가 처리 중
+    RUNNING,
+    DONE,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == DONE || this == FAILED;
+    }
+}
@@ -0,0 +1,13 @@
+package com.vp.voicepocket.domain.message.enums;
+
+/**
+ * TTS 결과를 Firestore 에 기록하기 전에 요청자(requestFrom)의 존재를 확인하는 방식.
+ */
+public enum SenderCheckMode {
+    // 확인하지 않는다. Python 서버가 보낸 결과를 그대로 신뢰한다.
+    NONE,
+    // 메모리에 올려둔 가입 회원 email 목록으로 확인한다. (DB 조회 없음)
+    KNOWN_USERS,
+    // 메시지마다 DB 로 확인한다.
+    DATABASE
+}
@@ -0,0 +1,28 @@
+package com.vp.voicepocket.domain.message.enums;
+
+/**
+ * TTS 요청의 처리 우선순위 구분. priority 는 AMQP 메시지 priority 로 input.queue 와 Celery 작업 큐에 그대로 전달된다.
+ */
+public enum TtsLane {
+    // 짧은 단건 요청. 사용자가 결과를 기다리고 있다.
+    INTERACTIVE(8),
+    // 긴 문장이나 일괄 요청.
+    BULK(2);
+
+    // input.queue 와 Celery 큐의 x-max-priority. 값이 클수록 큐가 관리하는 하위 큐가 늘어나므로 작게 유지한다.
+    public static final int MAX_PRIORITY = 10;
+
+    private final int priority;
+
+    TtsLane(int priority) {
+        this.priority = priority;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public static TtsLane fromPriority(int priority) {
+        return priority >= INTERACTIVE.priority ? INTERACTIVE : BULK;
+    }
+}
@@ -0,0 +1,15 @@
+package com.vp.voicepocket.domain.message.exception;
+
+public class CMessagePublishFailedException extends RuntimeException {
+    public CMessagePublishFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CMessagePublishFailedException(String message) {
+        super(message);
+    }
+
+    public CMessagePublishFailedException() {
+        super();
+    }
+}
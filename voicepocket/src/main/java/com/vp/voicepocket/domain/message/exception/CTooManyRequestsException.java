@@ -0,0 +1,27 @@
+package com.vp.voicepocket.domain.message.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도를 넘었거나 TTS 대기열이 가득 찬 경우. retryAfterSeconds 는 Retry-After 헤더로 전달된다.
+ */
+@Getter
+public class CTooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public CTooManyRequestsException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public CTooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public CTooManyRequestsException(long retryAfterSeconds) {
+        super();
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
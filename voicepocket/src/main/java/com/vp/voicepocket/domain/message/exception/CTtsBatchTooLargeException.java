@@ -0,0 +1,22 @@
+package com.vp.voicepocket.domain.message.exception;
+
+import lombok.Getter;
+
+/**
+ * 한 번에 요청한 TTS 건수가 사용자별 요청 한도(burst)보다 많은 경우. 기다려도 허용되지 않으므로 나누어 보내야 한다.
+ */
+@Getter
+public class CTtsBatchTooLargeException extends RuntimeException {
+
+    private final int maxSize;
+
+    public CTtsBatchTooLargeException(String message, int maxSize) {
+        super(message);
+        this.maxSize = maxSize;
+    }
+
+    public CTtsBatchTooLargeException(int maxSize) {
+        super();
+        this.maxSize = maxSize;
+    }
+}
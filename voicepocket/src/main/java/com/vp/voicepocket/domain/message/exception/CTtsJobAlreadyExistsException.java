@@ -0,0 +1,15 @@
+package com.vp.voicepocket.domain.message.exception;
+
+public class CTtsJobAlreadyExistsException extends RuntimeException {
+    public CTtsJobAlreadyExistsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CTtsJobAlreadyExistsException(String message) {
+        super(message);
+    }
+
+    public CTtsJobAlreadyExistsException() {
+        super();
+    }
+}
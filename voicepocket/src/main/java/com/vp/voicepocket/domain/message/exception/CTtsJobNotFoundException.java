@@ -0,0 +1,15 @@
+package com.vp.voicepocket.domain.message.exception;
+
+public class CTtsJobNotFoundException extends RuntimeException {
+    public CTtsJobNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CTtsJobNotFoundException(String message) {
+        super(message);
+    }
+
+    public CTtsJobNotFoundException() {
+        super();
+    }
+}
@@ -4,10 +4,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import javax.validation.constraints.NotNull;
 
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor
 @Builder
 @Schema(title = "Input Message 모델", description = "TTS 요청을 받을 Message 모델")
 public class InputMessage {
@@ -30,4 +32,13 @@ public class InputMessage {
     @NotNull
     @Schema(title = "Text", description = "합성을 원하는 문장", example = "테스트 문장입니다.")
     private String text;
+
+    @Schema(title = "Priority", description = "처리 우선순위 (0 ~ 10, 클수록 먼저 처리)", example = "8")
+    private int priority;
+
+    @Schema(title = "Chunk index", description = "긴 문장을 나눈 조각의 순서 (0 부터)", example = "0")
+    private Integer chunkIndex;
+
+    @Schema(title = "Chunk count", description = "같은 uuid 로 나뉜 조각의 수. 나누지 않은 요청은 1", example = "1")
+    private Integer chunkCount;
 }
\ No newline at end of file
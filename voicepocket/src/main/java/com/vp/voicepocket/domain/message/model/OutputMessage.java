@@ -31,4 +31,10 @@ public class OutputMessage {
     @NotNull
     @Schema(title = "uuid", description = "UUID")
     private String uuid;
+
+    @Schema(title = "Chunk index", description = "조각의 순서. 나누지 않은 요청이거나 이전 버전의 TTS 서버면 없음")
+    private Integer chunkIndex;
+
+    @Schema(title = "Chunk count", description = "같은 uuid 로 나뉜 조각의 수")
+    private Integer chunkCount;
 }
@@ -0,0 +1,19 @@
+package com.vp.voicepocket.domain.message.repository;
+
+import com.vp.voicepocket.domain.message.entity.TtsJobChunk;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TtsJobChunkRepository extends JpaRepository<TtsJobChunk, Long> {
+
+    boolean existsByJobUuidAndChunkIndex(String jobUuid, int chunkIndex);
+
+    /**
+     * 성공한 조각의 wav url 을 조각 순서대로 돌려준다.
+     */
+    @Query("select c.wavUrl from TtsJobChunk c where c.jobUuid = ?1 and c.wavUrl is not null order by c.chunkIndex")
+    List<String> findWavUrlsByJobUuid(String jobUuid);
+}
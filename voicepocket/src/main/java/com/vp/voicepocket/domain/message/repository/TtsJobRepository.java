@@ -0,0 +1,63 @@
+package com.vp.voicepocket.domain.message.repository;
+
+import com.vp.voicepocket.domain.message.entity.TtsJob;
+import com.vp.voicepocket.domain.message.entity.TtsJobStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TtsJobRepository extends JpaRepository<TtsJob, Long> {
+
+    Optional<TtsJob> findByUuid(String uuid);
+
+    /**
+     * 결과를 반영하는 동안 같은 작업에 follower 가 붙지 않도록 행을 잠근다. (InputMessage 접수 쪽도 같은 행을 잠근다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from TtsJob j where j.uuid in ?1")
+    List<TtsJob> findByUuidInForUpdate(Collection<String> uuids);
+
+    List<TtsJob> findByLeaderUuidIn(Collection<String> leaderUuids);
+
+    /**
+     * 같은 내용을 합성 중인 leader 작업의 uuid. follower 가 아니고 나누지 않은, createdAfter 이후에 접수한 작업만 leader 가 될 수 있다.
+     * 잠그지 않고 읽는다. (content_hash, status) 범위를 잠그면 처음 들어온 같은 문장 두 건이 서로의 gap lock 에 막혀 deadlock 이 난다.
+     */
+    @Query("select j.uuid from TtsJob j where j.contentHash = ?1 and j.status in ?2 and j.leaderUuid is null and j.chunkCount <= 1"
+        + " and j.createdDate > ?3 order by j.createdDate desc")
+    List<String> findLeaderUuids(String contentHash, Collection<TtsJobStatus> statuses, LocalDateTime createdAfter,
+        Pageable pageable);
+
+    /**
+     * createdBefore 전에 접수했는데 아직 결과가 없는, TTS 서버로 보낸 작업의 uuid. 잠그지 않고 읽는다.
+     */
+    @Query("select j.uuid from TtsJob j where j.status in ?1 and j.leaderUuid is null and j.createdDate < ?2 order by j.id")
+    List<String> findStaleUuids(Collection<TtsJobStatus> statuses, LocalDateTime createdBefore, Pageable pageable);
+
+    // 나누어 합성한 작업의 wavUrl 은 첫 조각뿐이므로 재사용하지 않는다.
+    @Query("select j.wavUrl from TtsJob j where j.contentHash = ?1 and j.status = 'DONE' and j.chunkCount <= 1 order by j.completedAt desc")
+    List<String> findWavUrlsByContentHash(String contentHash, Pageable pageable);
+
+    @Query("select j.uuid from TtsJob j where j.uuid in ?1")
+    List<String> findUuidsByUuidIn(Collection<String> uuids);
+
+    // 결과가 먼저 도착한 작업은 건드리지 않도록 QUEUED 인 작업만 갱신한다.
+    @Modifying
+    @Query("update TtsJob j set j.status = 'RUNNING', j.startedAt = ?2 where j.uuid in ?1 and j.status = 'QUEUED'")
+    int markRunning(Collection<String> uuids, LocalDateTime startedAt);
+
+    /**
+     * lane 별로 아직 끝나지 않은, TTS 서버로 보낸(follower 가 아닌) 작업 수. [lane, count] 배열 목록을 돌려준다.
+     */
+    @Query("select j.lane, count(j) from TtsJob j where j.status in ?1 and j.leaderUuid is null group by j.lane")
+    List<Object[]> countByLaneAndStatusIn(Collection<TtsJobStatus> statuses);
+}
@@ -0,0 +1,209 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.vp.voicepocket.domain.message.exception.CMessagePublishFailedException;
+import com.vp.voicepocket.domain.message.model.InputMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * InputMessage 를 input.exchange 로 비동기 발행하는 파이프라인.
+ *
+ * 요청 스레드는 제한된 크기의 큐에 메시지를 넣고 CompletableFuture 를 받는다.
+ * 발행 스레드는 큐에 쌓인 메시지를 batchSize 만큼 모아 하나의 채널로 연속 발행하고,
+ * 브로커의 publisher confirm(ack)을 받으면 future 를 완료한다. nack 이나 return(라우팅 실패)은 실패로 처리한다.
+ *
+ * 큐가 가득 차거나 confirm 대기 중인 메시지가 maxInFlight 를 넘으면 호출자를 잠시 기다리게 하고(back-pressure),
+ * 그래도 자리가 나지 않으면 CMessagePublishFailedException 으로 거절한다.
+ */
+@Slf4j
+@Component
+public class InputMessagePublisher {
+
+    public static final String EXCHANGE = "input.exchange";
+    public static final String ROUTING_KEY = "input.key";
+    public static final String INPUT_QUEUE = "input.queue";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final BlockingQueue<PendingMessage> queue;
+    private final Semaphore inFlight;
+    private final int batchSize;
+    private final int workerCount;
+    private final long offerTimeoutMillis;
+    private final Timer confirmLatency;
+    private final Counter nackCounter;
+    private final ExecutorService workers;
+    private volatile boolean running;
+
+    public InputMessagePublisher(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry,
+        @Value("${voicepocket.rabbit.publisher.queue-capacity:10000}") int queueCapacity,
+        @Value("${voicepocket.rabbit.publisher.max-in-flight:1000}") int maxInFlight,
+        @Value("${voicepocket.rabbit.publisher.batch-size:50}") int batchSize,
+        @Value("${voicepocket.rabbit.publisher.workers:2}") int workerCount,
+        @Value("${voicepocket.rabbit.publisher.offer-timeout-millis:500}") long offerTimeoutMillis) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.inFlight = new Semaphore(maxInFlight);
+        this.batchSize = batchSize;
+        this.workerCount = workerCount;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.workers = Executors.newFixedThreadPool(workerCount,
+            new CustomizableThreadFactory("tts-publisher-"));
+
+        this.confirmLatency = Timer.builder("tts.publish.confirm.latency")
+            .description("input.exchange 발행부터 publisher confirm 수신까지의 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.nackCounter = Counter.builder("tts.publish.nack")
+            .description("nack 또는 return 된 TTS 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("tts.publish.queue.size", queue, BlockingQueue::size)
+            .description("발행 대기 중인 TTS 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("tts.publish.in-flight", inFlight, permits -> maxInFlight - permits.availablePermits())
+            .description("confirm 을 기다리는 TTS 요청 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * @return 브로커가 메시지를 영속적으로 수락(ack)하면 완료되는 future
+     */
+    public CompletableFuture<Void> publish(InputMessage inputMessage) {
+        var pending = new PendingMessage(inputMessage);
+        try {
+            if (!queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new CMessagePublishFailedException("TTS publish queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CMessagePublishFailedException("Interrupted while waiting for publish queue", e);
+        }
+        return pending.result;
+    }
+
+    private void drain() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                acquire(batch);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.fail(
+                    new CMessagePublishFailedException("TTS publisher is shutting down")));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void acquire(List<PendingMessage> batch) throws InterruptedException {
+        while (!inFlight.tryAcquire(batch.size(), 1, TimeUnit.SECONDS)) {
+            log.warn("waiting for publisher confirms: {} permits left", inFlight.availablePermits());
+        }
+        batch.forEach(pending -> pending.acquired = true);
+    }
+
+    private void send(List<PendingMessage> batch) {
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (var pending : batch) {
+                    pending.sentAt = System.nanoTime();
+                    pending.listen();
+                    operations.convertAndSend(EXCHANGE, ROUTING_KEY, pending.message, message -> {
+                        message.getMessageProperties().setPriority(pending.message.getPriority());
+                        return message;
+                    }, pending.correlationData);
+                }
+                return null;
+            });
+        } catch (AmqpException e) {
+            log.error("TTS publish failed: {}", e.getMessage());
+            // result 는 한 번만 완료되므로 이후에 confirm 이 도착해도 permit 이 중복 반환되지 않는다.
+            batch.forEach(pending -> pending.fail(new CMessagePublishFailedException(e.getMessage(), e)));
+        }
+    }
+
+    private class PendingMessage {
+
+        private final InputMessage message;
+        private final CorrelationData correlationData;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private volatile long sentAt;
+        private volatile boolean acquired;
+
+        PendingMessage(InputMessage message) {
+            this.message = message;
+            this.correlationData = new CorrelationData(UUID.randomUUID().toString());
+        }
+
+        void listen() {
+            correlationData.getFuture().addCallback(confirm -> {
+                confirmLatency.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+                if (confirm != null && confirm.isAck() && correlationData.getReturned() == null) {
+                    complete();
+                } else {
+                    nackCounter.increment();
+                    var reason = confirm == null ? "unknown" : confirm.getReason();
+                    fail(new CMessagePublishFailedException("TTS request nacked: " + reason));
+                }
+            }, ex -> fail(new CMessagePublishFailedException(ex.getMessage(), ex)));
+        }
+
+        void complete() {
+            if (result.complete(null) && acquired) {
+                inFlight.release();
+            }
+        }
+
+        void fail(Throwable cause) {
+            if (result.completeExceptionally(cause) && acquired) {
+                inFlight.release();
+            }
+        }
+    }
+}
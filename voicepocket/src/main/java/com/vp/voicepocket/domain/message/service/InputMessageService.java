@@ -1,13 +1,24 @@
 package com.vp.voicepocket.domain.message.service;
 
+import com.vp.voicepocket.domain.message.dto.TTSBatchResultDto;
 import com.vp.voicepocket.domain.message.dto.TTSRequestDto;
+import com.vp.voicepocket.domain.message.enums.TtsLane;
+import com.vp.voicepocket.domain.message.exception.CTtsJobAlreadyExistsException;
 import com.vp.voicepocket.domain.message.model.InputMessage;
+import com.vp.voicepocket.domain.outbox.entity.OutboxType;
+import com.vp.voicepocket.domain.outbox.service.OutboxService;
 import com.vp.voicepocket.domain.user.entity.User;
 import com.vp.voicepocket.domain.user.exception.CUserNotFoundException;
 import com.vp.voicepocket.domain.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,9 +28,19 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class InputMessageService {
 
-    private final RabbitTemplate rabbitTemplate;    // RabbitTemplate을 통해 Exchange에 메세지를 보내도록 설정
+    private final OutboxService outboxService;    // 같은 트랜잭션에 outbox 로 저장하면 OutboxRelay 가 Exchange 에 메세지를 보냄
     private final UserRepository userRepository;
+    private final Validator validator;
+    private final TtsJobService ttsJobService;
 
+    // 이 길이 이하의 단건 요청은 INTERACTIVE lane 으로 보낸다.
+    @Value("${voicepocket.tts.priority.interactive-max-length:100}")
+    private int interactiveMaxLength;
+
+    /**
+     * 요청을 outbox 에 저장하고 바로 반환한다. 브로커 상태와 무관하게 커밋되면 요청은 유실되지 않는다.
+     * 처리 상태는 같은 uuid 의 TtsJob 으로 조회할 수 있다.
+     */
     @Transactional
     public void sendMessage(UserDetails userDetails, TTSRequestDto ttsRequestDto) {
         Long userId = Long.parseLong(userDetails.getUsername());
@@ -27,15 +48,84 @@ public class InputMessageService {
         User user = userRepository.findById(userId)
                 .orElseThrow(CUserNotFoundException::new);
 
-        InputMessage inputMessage = InputMessage.builder()
+        if (!ttsJobService.findExistingUuids(List.of(ttsRequestDto.getUuid())).isEmpty()) {
+            throw new CTtsJobAlreadyExistsException();
+        }
+
+        InputMessage inputMessage = toInputMessage(user, ttsRequestDto, laneOf(ttsRequestDto));
+        log.debug("inputMessage: {}", inputMessage);
+        // 같은 내용의 결과가 있거나 합성 중이면 TTS 서버로 보내지 않는다. 긴 문장은 조각별로 나누어 보낸다.
+        outboxService.saveAll(OutboxType.TTS_REQUEST, ttsJobService.createAll(userId, List.of(inputMessage)));
+    }
+
+    /**
+     * 여러 TTS 요청을 한 트랜잭션으로 접수한다. 요청자는 한 번만 조회한다.
+     * 형식이 잘못되었거나 uuid 가 중복된 항목만 거절하고 나머지는 outbox 에 저장하며,
+     * OutboxRelay 가 이들을 한 채널에서 묶어 발행한다.
+     * 다른 요청이 같은 uuid 를 동시에 접수해 저장에서 충돌하면 배치 전체가 CTtsJobAlreadyExistsException(409)으로 롤백된다.
+     * @return 요청 순서대로의 항목별 접수 결과
+     */
+    @Transactional
+    public List<TTSBatchResultDto> sendMessages(UserDetails userDetails, List<TTSRequestDto> ttsRequestDtos) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(CUserNotFoundException::new);
+
+        List<TTSBatchResultDto> results = new ArrayList<>(ttsRequestDtos.size());
+        List<InputMessage> inputMessages = new ArrayList<>(ttsRequestDtos.size());
+        var uuids = new HashSet<String>();
+        var existingUuids = ttsJobService.findExistingUuids(ttsRequestDtos.stream()
+                .filter(Objects::nonNull)
+                .map(TTSRequestDto::getUuid)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        for (int i = 0; i < ttsRequestDtos.size(); i++) {
+            TTSRequestDto ttsRequestDto = ttsRequestDtos.get(i);
+            if (ttsRequestDto == null) {
+                results.add(TTSBatchResultDto.rejected(i, null, "request must not be null"));
+                continue;
+            }
+            var violations = validator.validate(ttsRequestDto);
+            if (!violations.isEmpty()) {
+                results.add(TTSBatchResultDto.rejected(i, ttsRequestDto.getUuid(), violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "))));
+                continue;
+            }
+            if (existingUuids.contains(ttsRequestDto.getUuid()) || !uuids.add(ttsRequestDto.getUuid())) {
+                results.add(TTSBatchResultDto.rejected(i, ttsRequestDto.getUuid(), "duplicated uuid"));
+                continue;
+            }
+            inputMessages.add(toInputMessage(user, ttsRequestDto, TtsLane.BULK));
+            results.add(TTSBatchResultDto.accepted(i, ttsRequestDto.getUuid()));
+        }
+
+        outboxService.saveAll(OutboxType.TTS_REQUEST, ttsJobService.createAll(userId, inputMessages));
+        return results;
+    }
+
+    /**
+     * 일괄 요청은 항상 BULK 이다. 단건 요청은 type 이 BULK 이거나 문장이 길면 BULK, 그 외에는 INTERACTIVE 이다.
+     */
+    private TtsLane laneOf(TTSRequestDto ttsRequestDto) {
+        if (TtsLane.BULK.name().equalsIgnoreCase(ttsRequestDto.getType())
+                || ttsRequestDto.getText().length() > interactiveMaxLength) {
+            return TtsLane.BULK;
+        }
+        return TtsLane.INTERACTIVE;
+    }
+
+    private InputMessage toInputMessage(User user, TTSRequestDto ttsRequestDto, TtsLane lane) {
+        return InputMessage.builder()
                 .type(ttsRequestDto.getType())
                 .uuid(ttsRequestDto.getUuid())
                 .requestFrom(user.getEmail())
                 .requestTo(ttsRequestDto.getRequestTo())
                 .text(ttsRequestDto.getText())
+                .priority(lane.getPriority())
                 .build();
-        log.debug("inputMessage: {}", inputMessage);
-        rabbitTemplate.convertAndSend("input.exchange", "input.key", inputMessage);
     }
 
 }
\ No newline at end of file
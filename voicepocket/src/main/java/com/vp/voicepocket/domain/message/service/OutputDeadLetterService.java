@@ -0,0 +1,146 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import com.vp.voicepocket.domain.message.dto.DeadLetterResponseDto;
+import com.vp.voicepocket.domain.message.model.OutputMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.stereotype.Service;
+
+/**
+ * output.dead.queue 에 쌓인 TTS 결과 메시지를 조회하고 다시 처리하도록 돌려보낸다. (관리자용)
+ */
+@Slf4j
+@Service
+public class OutputDeadLetterService {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final OutputMessageRecoverer outputMessageRecoverer;
+    private final ObjectMapper objectMapper;
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+    private final Counter replayed;
+
+    public OutputDeadLetterService(RabbitTemplate rabbitTemplate,
+        OutputMessageRecoverer outputMessageRecoverer, ObjectMapper objectMapper,
+        MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.outputMessageRecoverer = outputMessageRecoverer;
+        this.objectMapper = objectMapper;
+        this.replayed = Counter.builder("output.message.replayed")
+            .description("관리자가 dead-letter queue 에서 다시 처리하도록 보낸 메시지 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 큐 앞쪽의 메시지를 최대 limit 건 읽은 뒤 모두 되돌려 놓는다. 큐의 내용은 바뀌지 않는다.
+     */
+    public List<DeadLetterResponseDto> findDeadLetters(int limit) {
+        return rabbitTemplate.execute(channel -> {
+            List<DeadLetterResponseDto> deadLetters = new ArrayList<>(limit);
+            long lastDeliveryTag = -1;
+            try {
+                for (int i = 0; i < limit; i++) {
+                    var response = channel.basicGet(OutputMessageRecoverer.DEAD_LETTER_QUEUE, false);
+                    if (response == null) {
+                        break;
+                    }
+                    lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                    deadLetters.add(toResponseDto(toMessage(response)));
+                }
+            } finally {
+                if (lastDeliveryTag >= 0) {
+                    channel.basicNack(lastDeliveryTag, true, true);
+                }
+            }
+            return deadLetters;
+        });
+    }
+
+    /**
+     * 큐 앞쪽의 메시지를 최대 limit 건 output.exchange 로 다시 보낸다. 재시도 횟수와 예외 헤더는 지운다.
+     * 한 건씩 브로커 confirm 을 받은 뒤 ack 하므로, 중간에 실패해도 메시지는 유실되지 않는다.
+     *
+     * @return 다시 보낸 메시지 수
+     */
+    public int replay(int limit) {
+        Integer count = rabbitTemplate.execute(channel -> {
+            int sent = 0;
+            for (int i = 0; i < limit; i++) {
+                var response = channel.basicGet(OutputMessageRecoverer.DEAD_LETTER_QUEUE, false);
+                if (response == null) {
+                    break;
+                }
+                if (!replay(channel, response)) {
+                    break;
+                }
+                sent++;
+            }
+            return sent;
+        });
+        int sent = count == null ? 0 : count;
+        replayed.increment(sent);
+        log.info("replayed {} dead-lettered output messages", sent);
+        return sent;
+    }
+
+    private boolean replay(Channel channel, GetResponse response) throws IOException {
+        long deliveryTag = response.getEnvelope().getDeliveryTag();
+        var message = toMessage(response);
+        var headers = message.getMessageProperties().getHeaders();
+        headers.remove(OutputMessageRecoverer.RETRIES_HEADER);
+        headers.remove(OutputMessageRecoverer.EXCEPTION_CLASS_HEADER);
+        headers.remove(OutputMessageRecoverer.EXCEPTION_MESSAGE_HEADER);
+        try {
+            outputMessageRecoverer.publish(OutputMessageRecoverer.OUTPUT_EXCHANGE,
+                OutputMessageRecoverer.ROUTING_KEY, message);
+        } catch (AmqpException e) {
+            log.error("replay of dead-lettered output message failed: {}", e.getMessage());
+            channel.basicNack(deliveryTag, false, true);
+            return false;
+        }
+        channel.basicAck(deliveryTag, false);
+        return true;
+    }
+
+    private Message toMessage(GetResponse response) {
+        var properties = propertiesConverter.toMessageProperties(response.getProps(), response.getEnvelope(),
+            StandardCharsets.UTF_8.name());
+        return new Message(response.getBody(), properties);
+    }
+
+    private DeadLetterResponseDto toResponseDto(Message message) {
+        var headers = message.getMessageProperties().getHeaders();
+        var builder = DeadLetterResponseDto.builder()
+            .retries(headers.get(OutputMessageRecoverer.RETRIES_HEADER) instanceof Number
+                ? ((Number) headers.get(OutputMessageRecoverer.RETRIES_HEADER)).intValue() : 0)
+            .exception(headerValue(headers.get(OutputMessageRecoverer.EXCEPTION_CLASS_HEADER)))
+            .reason(headerValue(headers.get(OutputMessageRecoverer.EXCEPTION_MESSAGE_HEADER)));
+        try {
+            var outputMessage = objectMapper.readValue(message.getBody(), OutputMessage.class);
+            builder.uuid(outputMessage.getUuid())
+                .requestFrom(outputMessage.getRequestFrom())
+                .requestTo(outputMessage.getRequestTo())
+                .result(outputMessage.getResult());
+        } catch (IOException e) {
+            // 변환할 수 없어 dead-letter 된 메시지는 본문을 그대로 보여준다.
+            builder.result(new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+        return builder.build();
+    }
+
+    private static String headerValue(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
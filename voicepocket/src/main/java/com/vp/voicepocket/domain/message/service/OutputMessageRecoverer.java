@@ -0,0 +1,149 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.vp.voicepocket.domain.user.exception.CUserNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * output.queue 리스너가 메모리 안에서 재시도(RetryInterceptor)를 다 쓰고도 실패한 메시지를 처리한다.
+ *
+ * 아직 재시도 단계가 남았으면 x-retries 를 올려 해당 단계의 retry queue 로 보낸다. retry queue 는 TTL 이 지나면
+ * 메시지를 다시 output.exchange 로 dead-letter 하므로, 브로커가 지수적으로 늘어나는 간격으로 재전달한다.
+ * 단계를 다 썼거나 다시 시도해도 소용없는 예외(요청자 없음, 변환 실패)는 사유를 헤더에 담아 dead-letter queue 로 보낸다.
+ *
+ * 재발행에 실패하면 AmqpRejectAndDontRequeueException 을 던진다. 이 경우 output.queue 의 x-dead-letter-exchange 로 넘어가므로
+ * 어떤 경우에도 메시지가 즉시 재큐잉되어 같은 실패를 반복하지 않는다.
+ */
+@Slf4j
+@Component
+public class OutputMessageRecoverer implements MessageBatchRecoverer {
+
+    public static final String OUTPUT_EXCHANGE = "output.exchange";
+    public static final String OUTPUT_QUEUE = "output.queue";
+    public static final String ROUTING_KEY = "output.key";
+    public static final String DEAD_LETTER_EXCHANGE = "output.dlx";
+    public static final String DEAD_LETTER_QUEUE = "output.dead.queue";
+    public static final String RETRY_EXCHANGE = "output.retry.exchange";
+
+    public static final String RETRIES_HEADER = "x-retries";
+    public static final String EXCEPTION_CLASS_HEADER = "x-exception-class";
+    public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+
+    private static final int MAX_REASON_LENGTH = 1000;
+    private static final long CONFIRM_TIMEOUT_SECONDS = 5;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final List<Long> retryDelaysMillis;
+    private final MeterRegistry meterRegistry;
+
+    public OutputMessageRecoverer(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry,
+        @Value("${voicepocket.rabbit.output.retry-delays-millis:1000,10000,60000}") List<Long> retryDelaysMillis) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.meterRegistry = meterRegistry;
+        this.retryDelaysMillis = List.copyOf(retryDelaysMillis);
+    }
+
+    public static String retryQueue(int attempt) {
+        return "output.retry.queue." + attempt;
+    }
+
+    public static String retryRoutingKey(int attempt) {
+        return "retry." + attempt;
+    }
+
+    public List<Long> getRetryDelaysMillis() {
+        return retryDelaysMillis;
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        int retries = retries(message);
+        if (isFatal(cause) || retries >= retryDelaysMillis.size()) {
+            deadLetter(message, cause, retries);
+            return;
+        }
+
+        int attempt = retries + 1;
+        message.getMessageProperties().setHeader(RETRIES_HEADER, attempt);
+        publish(RETRY_EXCHANGE, retryRoutingKey(attempt), message);
+        meterRegistry.counter("output.message.retry", "attempt", String.valueOf(attempt)).increment();
+        log.warn("output message retry {}/{} in {}ms: {}", attempt, retryDelaysMillis.size(),
+            retryDelaysMillis.get(retries), rootCause(cause).toString());
+    }
+
+    /**
+     * 배치 리스너는 실패한 배치의 메시지를 각각 재시도 단계로 보낸다.
+     * Firestore 문서와 TtsJob 갱신은 uuid 기준이므로 이미 처리된 메시지가 다시 와도 결과는 같다.
+     */
+    @Override
+    public void recover(List<Message> messages, Throwable cause) {
+        messages.forEach(message -> recover(message, cause));
+    }
+
+    private void deadLetter(Message message, Throwable cause, int retries) {
+        var root = rootCause(cause);
+        var reason = String.valueOf(root.getMessage());
+        var properties = message.getMessageProperties();
+        properties.setHeader(EXCEPTION_CLASS_HEADER, root.getClass().getName());
+        properties.setHeader(EXCEPTION_MESSAGE_HEADER,
+            reason.length() <= MAX_REASON_LENGTH ? reason : reason.substring(0, MAX_REASON_LENGTH));
+        properties.setHeader(RETRIES_HEADER, retries);
+        publish(DEAD_LETTER_EXCHANGE, ROUTING_KEY, message);
+        meterRegistry.counter("output.message.dead", "exception", root.getClass().getSimpleName()).increment();
+        log.error("output message dead-lettered after {} retries: {}", retries, root.toString());
+    }
+
+    /**
+     * 발행하고 브로커의 confirm 을 기다린다. OutputDeadLetterService 가 replay 할 때도 사용한다.
+     */
+    void publish(String exchange, String routingKey, Message message) {
+        var correlationData = new CorrelationData(UUID.randomUUID().toString());
+        try {
+            rabbitTemplate.send(exchange, routingKey, message, correlationData);
+            var confirm = correlationData.getFuture().get(CONFIRM_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (!confirm.isAck() || correlationData.getReturned() != null) {
+                throw new AmqpRejectAndDontRequeueException("Republish to " + exchange + " was not confirmed");
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            throw new AmqpRejectAndDontRequeueException("Republish to " + exchange + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpRejectAndDontRequeueException("Interrupted while republishing to " + exchange, e);
+        }
+    }
+
+    private static int retries(Message message) {
+        Object retries = message.getMessageProperties().getHeaders().get(RETRIES_HEADER);
+        return retries instanceof Number ? ((Number) retries).intValue() : 0;
+    }
+
+    private static boolean isFatal(Throwable cause) {
+        for (var current = cause; current != null; current = current.getCause() == current ? null : current.getCause()) {
+            if (current instanceof CUserNotFoundException || current instanceof MessageConversionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Throwable rootCause(Throwable cause) {
+        var root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root;
+    }
+}
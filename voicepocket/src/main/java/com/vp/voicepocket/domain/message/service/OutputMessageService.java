@@ -1,10 +1,9 @@
 package com.vp.voicepocket.domain.message.service;
 
-import com.vp.voicepocket.domain.firebase.service.FirestoreService;
 import com.vp.voicepocket.domain.message.model.OutputMessage;
-import com.vp.voicepocket.domain.user.entity.User;
 import com.vp.voicepocket.domain.user.exception.CUserNotFoundException;
-import com.vp.voicepocket.domain.user.repository.UserRepository;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,14 +14,47 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class OutputMessageService {
     private static final Logger log = LoggerFactory.getLogger(OutputMessageService.class);
-    private final UserRepository userRepository;
-    private final FirestoreService firestoreService;
+    private final SenderVerifier senderVerifier;
+    private final TtsJobService ttsJobService;
 
-    @RabbitListener(queues = "output.queue")
+    @RabbitListener(queues = OutputMessageRecoverer.OUTPUT_QUEUE, containerFactory = "simpleRabbitListenerContainerFactory",
+            autoStartup = "#{!${voicepocket.rabbit.listener.batch-enabled:false}}")
     public void consume(OutputMessage outputMessage) {
-        User user = userRepository.findByEmail(outputMessage.getRequestFrom())
-                .orElseThrow(CUserNotFoundException::new);
+        if (!senderVerifier.exists(outputMessage.getRequestFrom())) {
+            throw new CUserNotFoundException();
+        }
 
-        firestoreService.addWavUrl(user.getEmail(), outputMessage.getRequestTo(), outputMessage.getUrl(), outputMessage.getUuid());
+        // Firestore 기록은 TtsJobService 가 작업을 끝낸 결과에 대해서만 커밋 뒤에 한다.
+        ttsJobService.finishAll(List.of(outputMessage)).join();
+    }
+
+    /**
+     * voicepocket.rabbit.listener.batch-enabled=true 일 때 consume 대신 동작한다.
+     * 배치 안의 요청자를 한 번에 확인하고, Firestore 에는 WriteBatch 로 한 번에 기록한다.
+     * 존재하지 않는 요청자의 메시지는 배치 전체를 실패시키지 않도록 경고만 남기고 건너뛴다.
+     * 두 리스너 모두 Firestore 기록이 끝날 때까지 기다린 뒤 ack 하므로, 소비 속도는 Firestore 처리량에 맞춰진다.
+     * Firestore 에는 TtsJobService.finishAll 이 성공으로 끝낸 작업만 기록한다. 실패했거나 이미 끝난(만료된) 작업의 결과는 기록하지 않는다.
+     * 긴 문장의 조각 결과는 마지막 조각이 도착할 때 조각 순서의 url 목록과 함께 한 번 기록한다.
+     */
+    @RabbitListener(queues = OutputMessageRecoverer.OUTPUT_QUEUE, containerFactory = "batchRabbitListenerContainerFactory",
+            autoStartup = "${voicepocket.rabbit.listener.batch-enabled:false}")
+    public void consumeBatch(List<OutputMessage> outputMessages) {
+        var requestFroms = outputMessages.stream()
+                .map(OutputMessage::getRequestFrom)
+                .collect(Collectors.toSet());
+        var knownEmails = senderVerifier.filterExisting(requestFroms);
+
+        List<OutputMessage> knownMessages = outputMessages.stream()
+                .filter(outputMessage -> {
+                    if (knownEmails.contains(outputMessage.getRequestFrom())) {
+                        return true;
+                    }
+                    log.warn("Skip output message {}: user {} not found", outputMessage.getUuid(),
+                            outputMessage.getRequestFrom());
+                    return false;
+                })
+                .collect(Collectors.toList());
+
+        ttsJobService.finishAll(knownMessages).join();
     }
 }
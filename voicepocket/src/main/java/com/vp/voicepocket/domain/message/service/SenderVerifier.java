@@ -0,0 +1,85 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.vp.voicepocket.domain.message.enums.SenderCheckMode;
+import com.vp.voicepocket.domain.user.cache.KnownUserRegistry;
+import com.vp.voicepocket.domain.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * output.queue 로 들어온 TTS 결과의 요청자가 실제 회원인지 확인한다.
+ * 확인 방식은 voicepocket.message.sender-check 로 배포 환경마다 고를 수 있다. (기본값 KNOWN_USERS)
+ *
+ * KNOWN_USERS 에서 목록에 없는 email 은 DB 로 한 번 더 확인한다. 다른 인스턴스에서 가입했거나 가입 이벤트를 놓친 회원은
+ * 목록에 없을 수 있고, CUserNotFoundException 은 재시도 없이 dead-letter 로 가기 때문이다. 확인된 email 은 목록에 추가한다.
+ */
+@Component
+public class SenderVerifier {
+
+    private final SenderCheckMode mode;
+    private final UserRepository userRepository;
+    private final KnownUserRegistry knownUserRegistry;
+
+    public SenderVerifier(
+        @Value("${voicepocket.message.sender-check:KNOWN_USERS}") SenderCheckMode mode,
+        UserRepository userRepository, ObjectProvider<KnownUserRegistry> knownUserRegistry) {
+        this.mode = mode;
+        this.userRepository = userRepository;
+        this.knownUserRegistry = knownUserRegistry.getIfAvailable();
+    }
+
+    public boolean exists(String email) {
+        switch (mode) {
+            case NONE:
+                return true;
+            case KNOWN_USERS:
+                if (knownUserRegistry != null && knownUserRegistry.isLoaded() && knownUserRegistry.contains(email)) {
+                    return true;
+                }
+                boolean exists = userRepository.existsActiveByEmail(email);
+                if (exists && knownUserRegistry != null) {
+                    knownUserRegistry.add(email);
+                }
+                return exists;
+            default:
+                return userRepository.existsActiveByEmail(email);
+        }
+    }
+
+    /**
+     * @return emails 중 존재하는 회원의 email
+     */
+    public Set<String> filterExisting(Collection<String> emails) {
+        switch (mode) {
+            case NONE:
+                return new HashSet<>(emails);
+            case KNOWN_USERS:
+                if (knownUserRegistry == null || !knownUserRegistry.isLoaded()) {
+                    return new HashSet<>(userRepository.findEmailsByEmailIn(emails));
+                }
+                Set<String> existing = new HashSet<>(emails.size());
+                List<String> misses = new ArrayList<>();
+                for (var email : emails) {
+                    if (knownUserRegistry.contains(email)) {
+                        existing.add(email);
+                    } else {
+                        misses.add(email);
+                    }
+                }
+                if (!misses.isEmpty()) {
+                    var confirmed = userRepository.findEmailsByEmailIn(misses);
+                    confirmed.forEach(knownUserRegistry::add);
+                    existing.addAll(confirmed);
+                }
+                return existing;
+            default:
+                return new HashSet<>(userRepository.findEmailsByEmailIn(emails));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.vp.voicepocket.domain.message.exception.CTooManyRequestsException;
+import com.vp.voicepocket.domain.message.exception.CTtsBatchTooLargeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * TTS 요청 접수 여부를 결정한다.
+ *
+ * 1. input.queue 에 쌓인 메시지가 maxQueueDepth 를 넘으면 모든 사용자의 요청을 거절한다.
+ *    대기열 길이는 백그라운드에서 passive declare 로 주기적으로 읽어 두므로, 요청 경로에서는 volatile 읽기 한 번이다.
+ * 2. 사용자별 TtsRateLimiter 의 한도를 넘으면 그 사용자의 요청만 거절한다.
+ *
+ * 거절된 요청은 CTooManyRequestsException 으로 429 와 Retry-After 를 돌려준다.
+ * 한 번에 burst 보다 많이 요청하면 기다려도 허용되지 않으므로 CTtsBatchTooLargeException(413)으로 거절한다.
+ * 브로커에 연결할 수 없어 길이를 모르면 접수를 막지 않는다. (요청은 outbox 에 쌓였다가 복구 후 발행된다)
+ */
+@Slf4j
+@Component
+public class TtsAdmissionController {
+
+    private final AmqpAdmin amqpAdmin;
+    private final TtsRateLimiter ttsRateLimiter;
+    private final long maxQueueDepth;
+    private final long pollIntervalMillis;
+    private final long backlogRetryAfterSeconds;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+    private final Counter rejectedByUser;
+    private final Counter rejectedByBacklog;
+
+    public TtsAdmissionController(AmqpAdmin amqpAdmin, TtsRateLimiter ttsRateLimiter,
+        MeterRegistry meterRegistry,
+        @Value("${voicepocket.tts.admission.max-queue-depth:5000}") long maxQueueDepth,
+        @Value("${voicepocket.tts.admission.poll-interval-millis:1000}") long pollIntervalMillis,
+        @Value("${voicepocket.tts.admission.retry-after-seconds:10}") long backlogRetryAfterSeconds) {
+        this.amqpAdmin = amqpAdmin;
+        this.ttsRateLimiter = ttsRateLimiter;
+        this.maxQueueDepth = maxQueueDepth;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.backlogRetryAfterSeconds = backlogRetryAfterSeconds;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("tts-admission-"));
+
+        this.rejectedByUser = rejectedCounter(meterRegistry, "user");
+        this.rejectedByBacklog = rejectedCounter(meterRegistry, "backlog");
+        Gauge.builder("tts.admission.queue.depth", queueDepth, AtomicLong::get)
+            .description("마지막으로 확인한 input.queue 의 메시지 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::refreshQueueDepth, 0, pollIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * permits 건의 TTS 요청을 접수할 수 있는지 확인한다.
+     *
+     * @throws CTtsBatchTooLargeException permits 가 사용자별 요청 한도(burst)보다 큰 경우
+     * @throws CTooManyRequestsException 대기열이 가득 찼거나 사용자의 요청 한도를 넘은 경우
+     */
+    public void admit(UserDetails userDetails, int permits) {
+        if (permits > ttsRateLimiter.getBurst()) {
+            throw new CTtsBatchTooLargeException("TTS batch exceeds rate limit burst", ttsRateLimiter.getBurst());
+        }
+        if (queueDepth.get() >= maxQueueDepth) {
+            rejectedByBacklog.increment();
+            throw new CTooManyRequestsException("TTS backlog is full", backlogRetryAfterSeconds);
+        }
+
+        long waitNanos = ttsRateLimiter.tryAcquire(Long.parseLong(userDetails.getUsername()), permits);
+        if (waitNanos > 0) {
+            rejectedByUser.increment();
+            long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new CTooManyRequestsException("TTS rate limit exceeded", retryAfter);
+        }
+    }
+
+    private void refreshQueueDepth() {
+        try {
+            var queueInfo = amqpAdmin.getQueueInfo(InputMessagePublisher.INPUT_QUEUE);
+            queueDepth.set(queueInfo == null ? 0 : queueInfo.getMessageCount());
+        } catch (AmqpException e) {
+            log.warn("Could not read {} depth: {}", InputMessagePublisher.INPUT_QUEUE, e.getMessage());
+            queueDepth.set(0);
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("tts.admission.rejected")
+            .description("거절된 TTS 요청 호출 수 (user: 사용자별 한도 초과, backlog: 대기열 가득 참)")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,251 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.vp.voicepocket.domain.message.dto.TtsJobResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 사용자별로 열린 SSE 연결(/api/tts/events)에 TTS 완료 이벤트를 보내는 registry.
+ *
+ * 연결 목록은 userId -> CopyOnWriteArrayList 로 보관하므로 이벤트 발행 시 잠금 없이 순회한다.
+ * 연결마다 크기가 제한된 버퍼를 두고 전송은 sender 스레드가 맡으므로, 느린 클라이언트가 있어도
+ * output.queue 리스너는 기다리지 않는다. 버퍼가 가득 차면 이벤트를 버리며, 클라이언트는 GET /api/tts/{uuid} 로 확인할 수 있다.
+ * 프록시나 로드밸런서가 유휴 연결을 끊지 않도록 heartbeat 주석을 주기적으로 보낸다.
+ *
+ * 이벤트는 결과를 소비한 인스턴스에 연결된 클라이언트에게만 전달된다. 여러 인스턴스 간 전달은 기존 Firestore 문서가 맡는다.
+ */
+@Slf4j
+@Component
+public class TtsEventBroadcaster {
+
+    public static final String EVENT_NAME = "tts";
+
+    private final Map<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final long timeoutMillis;
+    private final long heartbeatSeconds;
+    private final int bufferSize;
+    private final int maxPerUser;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter dropped;
+
+    public TtsEventBroadcaster(MeterRegistry meterRegistry,
+        @Value("${voicepocket.sse.timeout-millis:1800000}") long timeoutMillis,
+        @Value("${voicepocket.sse.heartbeat-seconds:15}") long heartbeatSeconds,
+        @Value("${voicepocket.sse.buffer-size:100}") int bufferSize,
+        @Value("${voicepocket.sse.max-per-user:5}") int maxPerUser,
+        @Value("${voicepocket.sse.senders:4}") int senderCount) {
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatSeconds = heartbeatSeconds;
+        this.bufferSize = bufferSize;
+        this.maxPerUser = maxPerUser;
+        this.senders = Executors.newFixedThreadPool(senderCount,
+            new CustomizableThreadFactory("tts-sse-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("tts-sse-heartbeat-"));
+
+        this.dropped = Counter.builder("tts.sse.dropped")
+            .description("버퍼가 가득 차 버려진 SSE 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder("tts.sse.connections", connections, AtomicInteger::get)
+            .description("열려 있는 SSE 연결 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds,
+            TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        heartbeat.shutdownNow();
+        subscribers.values().forEach(list -> list.forEach(Subscriber::complete));
+        senders.shutdown();
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * userId 의 새 연결을 등록한다. 사용자당 연결 수를 넘으면 가장 오래된 연결을 닫는다.
+     */
+    public SseEmitter subscribe(Long userId) {
+        var emitter = new SseEmitter(timeoutMillis);
+        var subscriber = new Subscriber(userId, emitter);
+        // remove() 와 같은 키에서 경합하지 않도록 목록 생성과 추가를 compute 안에서 한다.
+        var list = subscribers.compute(userId, (key, current) -> {
+            var subscribed = current == null ? new CopyOnWriteArrayList<Subscriber>() : current;
+            subscribed.add(subscriber);
+            return subscribed;
+        });
+        connections.incrementAndGet();
+        while (list.size() > maxPerUser) {
+            list.get(0).complete();
+        }
+
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::complete);
+        emitter.onError(error -> subscriber.remove());
+        return emitter;
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋된 뒤에 보내고, 없으면 바로 보낸다.
+     * 롤백된 상태 변경이 클라이언트에 전달되지 않도록 하기 위함이다.
+     */
+    public void publishAfterCommit(Collection<TtsJobResponseDto> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        var copy = List.copyOf(events);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    copy.forEach(TtsEventBroadcaster.this::publish);
+                }
+            });
+        } else {
+            copy.forEach(this::publish);
+        }
+    }
+
+    private void publish(TtsJobResponseDto event) {
+        var list = subscribers.get(event.getRequestFromId());
+        if (list == null) {
+            return;
+        }
+        for (var subscriber : list) {
+            subscriber.offer(event);
+        }
+    }
+
+    private void sendHeartbeat() {
+        subscribers.values().forEach(list -> list.forEach(Subscriber::ping));
+    }
+
+    private class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<TtsJobResponseDto> buffer = new ArrayBlockingQueue<>(bufferSize);
+        // 한 연결에는 한 스레드만 쓰도록 drain 작업을 하나만 띄운다.
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(TtsJobResponseDto event) {
+            if (!buffer.offer(event)) {
+                dropped.increment();
+                log.debug("SSE buffer full for user {}, drop event {}", userId, event.getUuid());
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void ping() {
+            if (buffer.isEmpty() && !draining.get()) {
+                submit(() -> {
+                    if (draining.compareAndSet(false, true)) {
+                        try {
+                            emitter.send(SseEmitter.event().comment("heartbeat"));
+                        } catch (IOException | IllegalStateException e) {
+                            complete();
+                        } finally {
+                            draining.set(false);
+                        }
+                        scheduleDrain();
+                    }
+                });
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                submit(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                TtsJobResponseDto event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                        .id(event.getUuid())
+                        .name(EVENT_NAME)
+                        .data(event, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었다.
+                complete();
+            } finally {
+                draining.set(false);
+            }
+            // drain 을 마친 직후 들어온 이벤트를 놓치지 않도록 다시 확인한다.
+            if (!removed.get()) {
+                scheduleDrain();
+            }
+        }
+
+        private void submit(Runnable task) {
+            try {
+                senders.execute(task);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                complete();
+            }
+        }
+
+        void complete() {
+            remove();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 완료된 emitter
+            }
+        }
+
+        void remove() {
+            if (!removed.compareAndSet(false, true)) {
+                return;
+            }
+            connections.decrementAndGet();
+            buffer.clear();
+            subscribers.computeIfPresent(userId, (key, list) -> {
+                list.remove(this);
+                return list.isEmpty() ? null : list;
+            });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.vp.voicepocket.domain.message.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접수한 지 timeout 이 지나도 결과가 오지 않은 TtsJob 을 주기적으로 FAILED 로 바꾼다.
+ * 결과가 유실된 leader 가 남아 있으면 같은 문장의 요청이 follower 로 붙어 끝나지 않으므로, follower 도 함께 끝낸다.
+ * timeout 은 TtsJobService 의 leader-max-age 보다 길어야 한다. 그 사이의 작업에는 새 follower 가 붙지 않는다.
+ */
+@Slf4j
+@Component
+public class TtsJobReaper {
+
+    private final TtsJobService ttsJobService;
+    private final Duration timeout;
+    private final long intervalSeconds;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+
+    public TtsJobReaper(TtsJobService ttsJobService,
+        @Value("${voicepocket.tts.job.timeout-minutes:60}") long timeoutMinutes,
+        @Value("${voicepocket.tts.job.reaper-interval-seconds:60}") long intervalSeconds,
+        @Value("${voicepocket.tts.job.reaper-batch-size:100}") int batchSize) {
+        this.ttsJobService = ttsJobService;
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+        this.intervalSeconds = intervalSeconds;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("tts-job-reaper-"));
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::reap, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void reap() {
+        try {
+            var createdBefore = LocalDateTime.now().minus(timeout);
+            int checked;
+            do {
+                checked = ttsJobService.expireStale(createdBefore, batchSize);
+            } while (checked == batchSize && !scheduler.isShutdown());
+        } catch (Exception e) {
+            log.error("TTS job reaper failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,495 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.vp.voicepocket.domain.firebase.dto.WavUrlDto;
+import com.vp.voicepocket.domain.firebase.service.FirestoreService;
+import com.vp.voicepocket.domain.message.cache.TtsJobCache;
+import com.vp.voicepocket.domain.message.cache.TtsResultCache;
+import com.vp.voicepocket.domain.message.dto.TtsJobResponseDto;
+import com.vp.voicepocket.domain.message.entity.TtsJob;
+import com.vp.voicepocket.domain.message.entity.TtsJobChunk;
+import com.vp.voicepocket.domain.message.entity.TtsJobStatus;
+import com.vp.voicepocket.domain.message.enums.TtsLane;
+import com.vp.voicepocket.domain.message.exception.CTtsJobAlreadyExistsException;
+import com.vp.voicepocket.domain.message.exception.CTtsJobNotFoundException;
+import com.vp.voicepocket.domain.message.model.InputMessage;
+import com.vp.voicepocket.domain.message.model.OutputMessage;
+import com.vp.voicepocket.domain.message.repository.TtsJobChunkRepository;
+import com.vp.voicepocket.domain.message.repository.TtsJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+public class TtsJobService {
+
+    // TTS 서버(celery_consumer)가 성공 시 OutputMessage.result 에 담아 보내는 값. 그 외의 값은 실패 사유이다.
+    public static final String SUCCESS_RESULT = "TTS Request Success!";
+
+    private static final String EXPIRED_REASON = "TTS result was not received in time";
+    private static final List<TtsJobStatus> ACTIVE_STATUSES = List.of(TtsJobStatus.QUEUED, TtsJobStatus.RUNNING);
+
+    private final TtsJobRepository ttsJobRepository;
+    private final TtsJobChunkRepository ttsJobChunkRepository;
+    private final TtsTextChunker ttsTextChunker;
+    private final TtsJobCache ttsJobCache;
+    private final TtsEventBroadcaster ttsEventBroadcaster;
+    private final TtsResultCache ttsResultCache;
+    private final FirestoreService firestoreService;
+    private final boolean dedupEnabled;
+    private final Duration leaderMaxAge;
+    private final Map<TtsLane, Timer> doneLatency = new EnumMap<>(TtsLane.class);
+    private final Map<TtsLane, Timer> failedLatency = new EnumMap<>(TtsLane.class);
+    private final Counter dedupHit;
+    private final Counter dedupCoalesced;
+    private final Counter dedupMiss;
+    private final Counter expired;
+
+    public TtsJobService(TtsJobRepository ttsJobRepository, TtsJobChunkRepository ttsJobChunkRepository,
+        TtsTextChunker ttsTextChunker, TtsJobCache ttsJobCache,
+        TtsEventBroadcaster ttsEventBroadcaster, TtsResultCache ttsResultCache,
+        FirestoreService firestoreService, MeterRegistry meterRegistry,
+        @Value("${voicepocket.tts.dedup.enabled:true}") boolean dedupEnabled,
+        @Value("${voicepocket.tts.dedup.leader-max-age-minutes:10}") long leaderMaxAgeMinutes) {
+        this.ttsJobRepository = ttsJobRepository;
+        this.ttsJobChunkRepository = ttsJobChunkRepository;
+        this.ttsTextChunker = ttsTextChunker;
+        this.ttsJobCache = ttsJobCache;
+        this.ttsEventBroadcaster = ttsEventBroadcaster;
+        this.ttsResultCache = ttsResultCache;
+        this.firestoreService = firestoreService;
+        this.dedupEnabled = dedupEnabled;
+        this.leaderMaxAge = Duration.ofMinutes(leaderMaxAgeMinutes);
+        for (var lane : TtsLane.values()) {
+            doneLatency.put(lane, latencyTimer(meterRegistry, TtsJobStatus.DONE, lane));
+            failedLatency.put(lane, latencyTimer(meterRegistry, TtsJobStatus.FAILED, lane));
+        }
+        this.dedupHit = dedupCounter(meterRegistry, "hit");
+        this.dedupCoalesced = dedupCounter(meterRegistry, "coalesced");
+        this.dedupMiss = dedupCounter(meterRegistry, "miss");
+        this.expired = Counter.builder("tts.job.expired")
+            .description("결과가 오지 않아 FAILED 로 바꾼 TTS 작업 수 (follower 제외)")
+            .register(meterRegistry);
+    }
+
+    public static boolean isSuccess(OutputMessage outputMessage) {
+        return SUCCESS_RESULT.equals(outputMessage.getResult());
+    }
+
+    /**
+     * @return 긴 문장을 나눈 조각 하나의 결과인지 여부
+     */
+    public static boolean isChunk(OutputMessage outputMessage) {
+        return outputMessage.getChunkCount() != null && outputMessage.getChunkCount() > 1;
+    }
+
+    /**
+     * 호출한 쪽의 트랜잭션에 참여하여 작업을 만들고, TTS 서버로 보내야 하는 메시지만 돌려준다.
+     * 같은 모델과 문장의 결과가 이미 있으면 작업을 바로 DONE 으로 만들고 커밋 뒤 Firestore 와 SSE 로 알린다.
+     * 같은 내용을 합성 중인 작업이 있으면 그 작업의 follower 로 만들어 결과를 함께 받는다.
+     * 긴 문장은 TtsTextChunker 로 나눈 조각별 메시지를 돌려준다. 조각 결과를 모아야 하므로 중복 제거 대상에서 뺀다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<InputMessage> createAll(Long requestFromId, List<InputMessage> inputMessages) {
+        List<TtsJob> jobs = new ArrayList<>(inputMessages.size());
+        List<TtsJob> reused = new ArrayList<>();
+        List<InputMessage> toSend = new ArrayList<>(inputMessages.size());
+        // 이번 호출에서 먼저 접수한 같은 내용의 요청도 leader 가 될 수 있다.
+        Map<String, String> leaders = new HashMap<>();
+
+        for (var inputMessage : inputMessages) {
+            var contentHash = TtsResultCache.contentHash(inputMessage.getRequestTo(), inputMessage.getText());
+            var chunks = ttsTextChunker.chunk(inputMessage);
+            if (chunks.size() > 1 || !dedupEnabled) {
+                jobs.add(newJob(requestFromId, inputMessage, contentHash, null, chunks.size()));
+                toSend.addAll(chunks);
+                continue;
+            }
+
+            var wavUrl = ttsResultCache.get(contentHash, this::findWavUrl);
+            if (wavUrl != null) {
+                var job = newJob(requestFromId, inputMessage, contentHash, null, 1);
+                job.complete(wavUrl);
+                jobs.add(job);
+                reused.add(job);
+                dedupHit.increment();
+                continue;
+            }
+
+            var leaderUuid = leaders.containsKey(contentHash) ? leaders.get(contentHash) : findLeaderUuid(contentHash);
+            if (leaderUuid != null) {
+                jobs.add(newJob(requestFromId, inputMessage, contentHash, leaderUuid, 1));
+                dedupCoalesced.increment();
+            } else {
+                jobs.add(newJob(requestFromId, inputMessage, contentHash, null, 1));
+                leaders.put(contentHash, inputMessage.getUuid());
+                toSend.addAll(chunks);
+                dedupMiss.increment();
+            }
+        }
+
+        saveAllNew(jobs);
+        notifyAfterCommit(reused);
+        return toSend;
+    }
+
+    /**
+     * 바로 flush 하여, 같은 uuid 를 동시에 접수해 먼저 확인한 중복 검사를 둘 다 통과한 경우에도 409 로 돌려준다.
+     */
+    private void saveAllNew(List<TtsJob> jobs) {
+        try {
+            ttsJobRepository.saveAllAndFlush(jobs);
+        } catch (DataIntegrityViolationException e) {
+            var cause = e.getMostSpecificCause().getMessage();
+            if (cause != null && cause.toLowerCase(Locale.ROOT).contains(TtsJob.UUID_UNIQUE_KEY)) {
+                throw new CTtsJobAlreadyExistsException("TTS job already exists", e);
+            }
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Set<String> findExistingUuids(Collection<String> uuids) {
+        return new HashSet<>(ttsJobRepository.findUuidsByUuidIn(uuids));
+    }
+
+    /**
+     * 브로커가 요청을 수락한 작업을 RUNNING 으로 바꾼다.
+     */
+    @Transactional
+    public void markRunning(Collection<String> uuids) {
+        if (uuids.isEmpty()) {
+            return;
+        }
+        ttsJobRepository.markRunning(uuids, LocalDateTime.now());
+    }
+
+    /**
+     * TTS 서버의 결과로 작업을 DONE 또는 FAILED 로 바꾸고, 접수부터 완료까지의 시간을 기록한다.
+     * 커밋되면 요청자의 SSE 연결로 완료 이벤트를 보내고, 이번에 성공으로 끝낸 작업의 wav url 을 Firestore 에 기록한다.
+     * 반영 여부는 작업 행을 잠근 채 정하므로, TtsJobReaper 가 이미 끝낸 작업에 늦게 도착한 결과는 Firestore 에도 기록되지 않는다.
+     * 작업이 없는 결과(이 기능 배포 전에 접수된 요청 등)는 상태 없이 Firestore 에만 기록한다.
+     * 나누어 합성한 작업은 조각 결과를 모아 마지막 조각이 도착할 때 한 번 끝내고, 조각 순서의 url 목록을 기록한다.
+     *
+     * @return 커밋 뒤 Firestore 기록이 끝나면 완료되는 future. 기록 실패는 로그만 남기고 정상 완료한다.
+     */
+    @Transactional
+    public CompletableFuture<Void> finishAll(List<OutputMessage> outputMessages) {
+        Map<String, TtsJob> jobs = ttsJobRepository.findByUuidInForUpdate(outputMessages.stream()
+                .map(OutputMessage::getUuid)
+                .collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(TtsJob::getUuid, Function.identity()));
+
+        List<TtsJobResponseDto> finished = new ArrayList<>(jobs.size());
+        Map<String, TtsJob> finishedLeaders = new HashMap<>();
+        List<WavUrlDto> wavUrls = new ArrayList<>();
+        for (var outputMessage : outputMessages) {
+            var job = jobs.get(outputMessage.getUuid());
+            if (job == null) {
+                if (isSuccess(outputMessage) && !isChunk(outputMessage)) {
+                    wavUrls.add(toWavUrlDto(outputMessage));
+                }
+                continue;
+            }
+            if (job.getStatus().isFinished()) {
+                continue;
+            }
+            if (job.isChunked()) {
+                var chunkWavUrls = finishChunk(job, outputMessage);
+                if (!job.getStatus().isFinished()) {
+                    continue;
+                }
+                if (chunkWavUrls != null) {
+                    wavUrls.add(toWavUrlDto(job, chunkWavUrls));
+                }
+                recordLatency(job);
+                finished.add(new TtsJobResponseDto(job, chunkWavUrls));
+                continue;
+            }
+            finishedLeaders.put(job.getUuid(), job);
+            if (isSuccess(outputMessage)) {
+                job.complete(outputMessage.getUrl());
+                ttsResultCache.putAfterCommit(job.getContentHash(), job.getWavUrl());
+                wavUrls.add(toWavUrlDto(job, null));
+            } else {
+                job.fail(outputMessage.getResult());
+            }
+            recordLatency(job);
+            finished.add(new TtsJobResponseDto(job));
+        }
+        ttsEventBroadcaster.publishAfterCommit(finished);
+        finishFollowers(finishedLeaders);
+        return addWavUrlsAfterCommit(wavUrls);
+    }
+
+    /**
+     * createdBefore 전에 접수했는데 결과가 오지 않은 작업을 최대 limit 건 FAILED 로 바꾸고, follower 도 같은 사유로 끝낸다.
+     * Celery worker 가 죽거나 input.queue 의 TTL / overflow 로 요청이 버려지면 결과가 오지 않는다.
+     * 늦게 도착한 결과는 이미 끝난 작업이므로 finishAll 이 무시하고, Firestore 에도 기록하지 않는다.
+     *
+     * @return 이번에 확인한 작업 수 (limit 과 같으면 더 남아 있을 수 있다)
+     */
+    @Transactional
+    public int expireStale(LocalDateTime createdBefore, int limit) {
+        var uuids = ttsJobRepository.findStaleUuids(ACTIVE_STATUSES, createdBefore, PageRequest.of(0, limit));
+        if (uuids.isEmpty()) {
+            return 0;
+        }
+
+        List<TtsJobResponseDto> finished = new ArrayList<>(uuids.size());
+        Map<String, TtsJob> expiredLeaders = new HashMap<>();
+        // 다른 인스턴스나 finishAll 이 먼저 끝냈을 수 있으므로 잠근 뒤 다시 확인한다.
+        for (var job : ttsJobRepository.findByUuidInForUpdate(uuids)) {
+            if (job.getStatus().isFinished() || !job.getCreatedDate().isBefore(createdBefore)) {
+                continue;
+            }
+            job.fail(EXPIRED_REASON);
+            recordLatency(job);
+            expiredLeaders.put(job.getUuid(), job);
+            finished.add(new TtsJobResponseDto(job));
+        }
+        expired.increment(expiredLeaders.size());
+        ttsEventBroadcaster.publishAfterCommit(finished);
+        finishFollowers(expiredLeaders);
+        return uuids.size();
+    }
+
+    /**
+     * 조각 하나의 결과를 기록한다. 재전달된 조각은 무시한다.
+     * 조각이 하나라도 실패하면 작업을 FAILED 로, 모든 조각이 성공하면 첫 조각의 url 로 DONE 으로 바꾼다.
+     * 작업 행을 잠근 채로 호출되므로 조각 결과가 여러 consumer 에 동시에 도착해도 작업은 한 번만 끝난다.
+     *
+     * @return 작업이 DONE 이 되었으면 조각 순서의 wav url 목록, 아니면 null
+     */
+    private List<String> finishChunk(TtsJob job, OutputMessage outputMessage) {
+        Integer chunkIndex = outputMessage.getChunkIndex();
+        if (chunkIndex == null || chunkIndex < 0 || chunkIndex >= job.getChunkCount()) {
+            log.warn("Skip output message for TTS job {}: invalid chunk index {}", job.getUuid(), chunkIndex);
+            return null;
+        }
+        if (ttsJobChunkRepository.existsByJobUuidAndChunkIndex(job.getUuid(), chunkIndex)) {
+            return null;
+        }
+
+        boolean success = isSuccess(outputMessage);
+        ttsJobChunkRepository.save(TtsJobChunk.builder()
+            .jobUuid(job.getUuid())
+            .chunkIndex(chunkIndex)
+            .wavUrl(success ? outputMessage.getUrl() : null)
+            .failureReason(success ? null : outputMessage.getResult())
+            .build());
+        if (!success) {
+            job.fail("chunk " + chunkIndex + "/" + job.getChunkCount() + ": " + outputMessage.getResult());
+            return null;
+        }
+
+        var wavUrls = ttsJobChunkRepository.findWavUrlsByJobUuid(job.getUuid());
+        if (wavUrls.size() < job.getChunkCount()) {
+            return null;
+        }
+        job.complete(wavUrls.get(0));
+        return wavUrls;
+    }
+
+    private void recordLatency(TtsJob job) {
+        var latency = Duration.between(job.getCreatedDate(), job.getCompletedAt());
+        if (job.getStatus() == TtsJobStatus.DONE) {
+            doneLatency.get(job.getLane()).record(latency);
+        } else {
+            failedLatency.get(job.getLane()).record(latency);
+            log.warn("TTS job {} failed: {}", job.getUuid(), job.getFailureReason());
+        }
+    }
+
+    /**
+     * leader 의 결과를 follower 에 그대로 반영한다. leader 가 실패하면 follower 도 같은 사유로 실패한다.
+     */
+    private void finishFollowers(Map<String, TtsJob> leaders) {
+        if (leaders.isEmpty()) {
+            return;
+        }
+        List<TtsJob> followers = new ArrayList<>();
+        for (var follower : ttsJobRepository.findByLeaderUuidIn(leaders.keySet())) {
+            if (follower.getStatus().isFinished()) {
+                continue;
+            }
+            var leader = leaders.get(follower.getLeaderUuid());
+            if (leader.getStatus() == TtsJobStatus.DONE) {
+                follower.complete(leader.getWavUrl());
+            } else {
+                follower.fail(leader.getFailureReason());
+            }
+            followers.add(follower);
+        }
+        notifyAfterCommit(followers);
+    }
+
+    /**
+     * TTS 서버를 거치지 않고 끝난 작업(결과 재사용, follower)을 커밋 뒤 Firestore 와 SSE 로 알린다.
+     * Firestore 기록은 기다리지 않으며, 실패해도 작업 상태는 GET /api/tts/{uuid} 로 확인할 수 있다.
+     */
+    private void notifyAfterCommit(List<TtsJob> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        addWavUrlsAfterCommit(jobs.stream()
+            .filter(job -> job.getStatus() == TtsJobStatus.DONE)
+            .map(job -> toWavUrlDto(job, null))
+            .collect(Collectors.toList()));
+        ttsEventBroadcaster.publishAfterCommit(jobs.stream()
+            .map(TtsJobResponseDto::new)
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * @return 커밋 뒤 기록이 끝나면(실패해도) 완료되는 future. 롤백되면 기록하지 않고 바로 완료된다.
+     */
+    private CompletableFuture<Void> addWavUrlsAfterCommit(List<WavUrlDto> wavUrls) {
+        if (wavUrls.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        var written = new CompletableFuture<Void>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    firestoreService.addWavUrls(wavUrls).whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            log.error("Firestore write for TTS results failed: {}", error.getMessage());
+                        }
+                        written.complete(null);
+                    });
+                } catch (RuntimeException e) {
+                    log.error("Firestore write for TTS results failed: {}", e.getMessage());
+                    written.complete(null);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    written.complete(null);
+                }
+            }
+        });
+        return written;
+    }
+
+    private static WavUrlDto toWavUrlDto(TtsJob job, List<String> wavUrls) {
+        return WavUrlDto.builder()
+            .userEmail(job.getRequestFrom())
+            .modelEmail(job.getRequestTo())
+            .wavUrl(job.getWavUrl())
+            .uuid(job.getUuid())
+            .wavUrls(wavUrls)
+            .build();
+    }
+
+    private static WavUrlDto toWavUrlDto(OutputMessage outputMessage) {
+        return WavUrlDto.builder()
+            .userEmail(outputMessage.getRequestFrom())
+            .modelEmail(outputMessage.getRequestTo())
+            .wavUrl(outputMessage.getUrl())
+            .uuid(outputMessage.getUuid())
+            .build();
+    }
+
+    private String findWavUrl(String contentHash) {
+        return ttsJobRepository.findWavUrlsByContentHash(contentHash, PageRequest.of(0, 1)).stream()
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * leaderMaxAge 보다 오래된 작업은 결과가 유실되었을 수 있으므로 leader 로 삼지 않는다. (TtsJobReaper 가 정리한다)
+     * 후보를 잠그지 않고 찾은 뒤, 이미 있는 leader 행만 uuid(unique key)로 잠그고 상태를 다시 확인한다.
+     * 결과를 반영하는 finishAll 도 같은 행을 잠그므로, 방금 끝난 leader 에 follower 가 붙지 않는다.
+     * 후보가 없으면 아무것도 잠그지 않으므로, 같은 문장이 동시에 처음 들어오면 둘 다 leader 가 되어 합성된다.
+     */
+    private String findLeaderUuid(String contentHash) {
+        var candidates = ttsJobRepository.findLeaderUuids(contentHash,
+            ACTIVE_STATUSES, LocalDateTime.now().minus(leaderMaxAge), PageRequest.of(0, 1));
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return ttsJobRepository.findByUuidInForUpdate(candidates).stream()
+            .filter(job -> !job.getStatus().isFinished())
+            .findFirst()
+            .map(TtsJob::getUuid)
+            .orElse(null);
+    }
+
+    private static TtsJob newJob(Long requestFromId, InputMessage inputMessage, String contentHash,
+        String leaderUuid, int chunkCount) {
+        return TtsJob.builder()
+            .uuid(inputMessage.getUuid())
+            .requestFromId(requestFromId)
+            .requestFrom(inputMessage.getRequestFrom())
+            .requestTo(inputMessage.getRequestTo())
+            .contentHash(contentHash)
+            .leaderUuid(leaderUuid)
+            .lane(TtsLane.fromPriority(inputMessage.getPriority()))
+            .chunkCount(chunkCount)
+            .build();
+    }
+
+    /**
+     * 요청자 본인의 작업만 조회할 수 있다. 캐시 hit 시 커넥션을 잡지 않도록 트랜잭션을 열지 않는다.
+     * 끝난(DONE / FAILED) 작업만 캐시되므로, 진행 중인 작업은 어느 인스턴스에서 조회하든 DB 의 현재 상태를 돌려준다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public TtsJobResponseDto findJob(UserDetails userDetails, String uuid) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        var job = ttsJobCache.get(uuid, key -> ttsJobRepository.findByUuid(key)
+            .map(ttsJob -> new TtsJobResponseDto(ttsJob,
+                ttsJob.isChunked() && ttsJob.getStatus() == TtsJobStatus.DONE
+                    ? ttsJobChunkRepository.findWavUrlsByJobUuid(ttsJob.getUuid()) : null))
+            .orElseThrow(CTtsJobNotFoundException::new));
+        if (!job.getRequestFromId().equals(userId)) {
+            throw new CTtsJobNotFoundException();
+        }
+        return job;
+    }
+
+    private static Counter dedupCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("tts.job.dedup")
+            .description("접수한 TTS 요청의 중복 제거 결과 (hit: 결과 재사용, coalesced: 진행 중인 작업에 합류, miss: 새로 합성)")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, TtsJobStatus status, TtsLane lane) {
+        return Timer.builder("tts.job.latency")
+            .description("TTS 요청 접수부터 결과 수신까지의 시간")
+            .tag("status", status.name())
+            .tag("lane", lane.name())
+            .publishPercentileHistogram()
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+}
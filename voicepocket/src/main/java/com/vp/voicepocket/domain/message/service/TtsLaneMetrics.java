@@ -0,0 +1,77 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.vp.voicepocket.domain.message.entity.TtsJobStatus;
+import com.vp.voicepocket.domain.message.enums.TtsLane;
+import com.vp.voicepocket.domain.message.repository.TtsJobRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * lane 별로 TTS 서버에 보냈지만 아직 결과가 오지 않은 작업 수를 tts.job.active{lane} 로 노출한다.
+ * input.queue 는 하나의 priority queue 라 브로커에서는 lane 별 길이를 알 수 없으므로 tts_job 에서 주기적으로 센다.
+ * lane 별 대기 시간은 tts.job.dispatch.latency, 완료까지의 시간은 tts.job.latency 에 lane tag 로 기록된다.
+ */
+@Slf4j
+@Component
+public class TtsLaneMetrics {
+
+    private static final List<TtsJobStatus> ACTIVE = List.of(TtsJobStatus.QUEUED, TtsJobStatus.RUNNING);
+
+    private final TtsJobRepository ttsJobRepository;
+    private final Map<TtsLane, AtomicLong> active = new EnumMap<>(TtsLane.class);
+    private final long pollIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public TtsLaneMetrics(TtsJobRepository ttsJobRepository, MeterRegistry meterRegistry,
+        @Value("${voicepocket.tts.lane-metrics.poll-interval-millis:5000}") long pollIntervalMillis) {
+        this.ttsJobRepository = ttsJobRepository;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("tts-lane-metrics-"));
+        for (var lane : TtsLane.values()) {
+            var count = new AtomicLong();
+            active.put(lane, count);
+            Gauge.builder("tts.job.active", count, AtomicLong::get)
+                .description("TTS 서버로 보냈지만 아직 결과가 오지 않은 작업 수")
+                .tag("lane", lane.name())
+                .register(meterRegistry);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::refresh, pollIntervalMillis, pollIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void refresh() {
+        try {
+            Map<TtsLane, Long> counts = new EnumMap<>(TtsLane.class);
+            for (var row : ttsJobRepository.countByLaneAndStatusIn(ACTIVE)) {
+                counts.put((TtsLane) row[0], (Long) row[1]);
+            }
+            active.forEach((lane, count) -> count.set(counts.getOrDefault(lane, 0L)));
+        } catch (DataAccessException e) {
+            log.warn("Could not count active TTS jobs: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 TTS 요청 token bucket.
+ *
+ * 버킷 하나를 "다음 요청이 정상 속도로 도착할 시각(TAT)" 하나로 표현하는 GCRA 방식이라,
+ * 상태는 사용자별 AtomicLong 하나이고 요청마다 CAS 한 번으로 끝난다. 사용자끼리는 서로 다른 카운터를 쓰므로 경합하지 않는다.
+ * 일정 시간 요청이 없는 사용자의 버킷은 가득 찬 상태와 같으므로 캐시에서 버린다.
+ */
+@Component
+public class TtsRateLimiter {
+
+    private final Cache<Long, AtomicLong> buckets;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int burst;
+
+    public TtsRateLimiter(
+        @Value("${voicepocket.tts.rate-limit.permits-per-minute:60}") long permitsPerMinute,
+        @Value("${voicepocket.tts.rate-limit.burst:100}") int burst) {
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+        this.burst = burst;
+        this.burstNanos = emissionIntervalNanos * burst;
+        this.buckets = Caffeine.newBuilder()
+            .expireAfterAccess(Math.max(burstNanos, TimeUnit.MINUTES.toNanos(1)), TimeUnit.NANOSECONDS)
+            .build();
+    }
+
+    /**
+     * @return 한 번에 허용할 수 있는 최대 요청 수
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * permits 만큼 요청을 허용할 수 있으면 차감한다.
+     *
+     * @return 허용되면 0, 아니면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(Long userId, int permits) {
+        if (permits > burst) {
+            // 한 번에 버킷 크기보다 많이 요청하면 기다려도 허용되지 않는다. (TtsAdmissionController 가 먼저 413 으로 거절한다)
+            return Long.MAX_VALUE;
+        }
+        var tat = buckets.get(userId, key -> new AtomicLong(Long.MIN_VALUE));
+        long increment = emissionIntervalNanos * permits;
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = base + increment;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.vp.voicepocket.domain.message.enums.TtsLane;
+import com.vp.voicepocket.domain.message.model.InputMessage;
+import com.vp.voicepocket.domain.outbox.entity.OutboxMessage;
+import com.vp.voicepocket.domain.outbox.entity.OutboxType;
+import com.vp.voicepocket.domain.outbox.service.OutboxMessageHandler;
+import com.vp.voicepocket.domain.outbox.service.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox 에 쌓인 TTS 요청(긴 문장이면 조각 하나)을 InputMessagePublisher 로 input.exchange 에 발행한다.
+ * 발행이 확정되면 TtsJob 을 RUNNING 으로 바꾸고, 접수부터 발행까지의 시간을 lane 별로 기록한다.
+ */
+@Component
+public class TtsRequestOutboxHandler implements OutboxMessageHandler {
+
+    private final OutboxService outboxService;
+    private final InputMessagePublisher inputMessagePublisher;
+    private final TtsJobService ttsJobService;
+    private final Map<TtsLane, Timer> dispatchLatency = new EnumMap<>(TtsLane.class);
+
+    public TtsRequestOutboxHandler(OutboxService outboxService,
+        InputMessagePublisher inputMessagePublisher, TtsJobService ttsJobService,
+        MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.inputMessagePublisher = inputMessagePublisher;
+        this.ttsJobService = ttsJobService;
+        for (var lane : TtsLane.values()) {
+            dispatchLatency.put(lane, Timer.builder("tts.job.dispatch.latency")
+                .description("TTS 요청 접수부터 브로커 발행 확정까지의 시간")
+                .tag("lane", lane.name())
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public OutboxType getType() {
+        return OutboxType.TTS_REQUEST;
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatch(OutboxMessage outboxMessage) {
+        var inputMessage = outboxService.readPayload(outboxMessage, InputMessage.class);
+        return inputMessagePublisher.publish(inputMessage);
+    }
+
+    @Override
+    public void afterDelivered(List<OutboxMessage> outboxMessages) {
+        var now = LocalDateTime.now();
+        List<String> uuids = new ArrayList<>(outboxMessages.size());
+        for (var outboxMessage : outboxMessages) {
+            var inputMessage = outboxService.readPayload(outboxMessage, InputMessage.class);
+            dispatchLatency.get(TtsLane.fromPriority(inputMessage.getPriority()))
+                .record(Duration.between(outboxMessage.getCreatedDate(), now));
+            uuids.add(inputMessage.getUuid());
+        }
+        // 긴 문장의 조각들은 같은 uuid 를 가진다.
+        ttsJobService.markRunning(new HashSet<>(uuids));
+    }
+}
@@ -0,0 +1,107 @@
+package com.vp.voicepocket.domain.message.service;
+
+import com.vp.voicepocket.domain.message.model.InputMessage;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 긴 문장을 문장 경계에서 maxLength 이하의 조각으로 나눈다.
+ *
+ * 조각은 같은 uuid 와 chunkIndex / chunkCount 를 가진 InputMessage 로 input.exchange 에 각각 발행되어
+ * 여러 TTS worker 가 나누어 합성한다. 결과는 TtsJobService.finishAll 이 모아 한 번에 완료 처리한다.
+ * 한 문장이 maxLength 보다 길면 공백에서, 공백도 없으면 maxLength 에서 자른다.
+ */
+@Component
+public class TtsTextChunker {
+
+    private final int maxLength;
+
+    public TtsTextChunker(@Value("${voicepocket.tts.chunk.max-length:300}") int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * @return 순서대로의 조각. maxLength 이하의 문장은 그대로 한 조각이다.
+     */
+    public List<String> split(String text) {
+        if (text.length() <= maxLength) {
+            return List.of(text);
+        }
+
+        var sentences = BreakIterator.getSentenceInstance(Locale.KOREAN);
+        sentences.setText(text);
+        List<String> chunks = new ArrayList<>();
+        var current = new StringBuilder();
+        for (int start = sentences.first(), end = sentences.next(); end != BreakIterator.DONE;
+            start = end, end = sentences.next()) {
+            var sentence = text.substring(start, end).strip();
+            if (sentence.isEmpty()) {
+                continue;
+            }
+            if (current.length() > 0 && current.length() + 1 + sentence.length() > maxLength) {
+                chunks.add(current.toString());
+                current.setLength(0);
+            }
+            if (sentence.length() > maxLength) {
+                splitSentence(sentence, chunks);
+                continue;
+            }
+            if (current.length() > 0) {
+                current.append(' ');
+            }
+            current.append(sentence);
+        }
+        if (current.length() > 0) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    /**
+     * text 를 나눠야 하면 조각별 InputMessage 를, 아니면 chunkIndex 0 / chunkCount 1 인 메시지 하나를 돌려준다.
+     * 조각은 uuid, 요청자, 모델, 우선순위를 그대로 물려받는다.
+     */
+    public List<InputMessage> chunk(InputMessage inputMessage) {
+        var texts = split(inputMessage.getText());
+        List<InputMessage> chunks = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            chunks.add(InputMessage.builder()
+                .type(inputMessage.getType())
+                .uuid(inputMessage.getUuid())
+                .requestFrom(inputMessage.getRequestFrom())
+                .requestTo(inputMessage.getRequestTo())
+                .text(texts.get(i))
+                .priority(inputMessage.getPriority())
+                .chunkIndex(i)
+                .chunkCount(texts.size())
+                .build());
+        }
+        return chunks;
+    }
+
+    private void splitSentence(String sentence, List<String> chunks) {
+        int start = 0;
+        while (sentence.length() - start > maxLength) {
+            int end = sentence.lastIndexOf(' ', start + maxLength);
+            if (end <= start) {
+                end = start + maxLength;
+                // surrogate pair 가운데에서 자르지 않는다.
+                if (Character.isLowSurrogate(sentence.charAt(end))) {
+                    end--;
+                }
+            }
+            chunks.add(sentence.substring(start, end).strip());
+            start = end;
+            while (start < sentence.length() && sentence.charAt(start) == ' ') {
+                start++;
+            }
+        }
+        if (start < sentence.length()) {
+            chunks.add(sentence.substring(start));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.vp.voicepocket.domain.outbox.entity;
+
+import com.vp.voicepocket.global.common.BaseEntity;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업무 데이터와 같은 트랜잭션에서 저장되고, OutboxRelay 가 전달에 성공하면 삭제되는 메시지.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_message", indexes = {
+    @Index(name = "idx_outbox_message_next_attempt_at", columnList = "next_attempt_at")
+})
+@Entity
+public class OutboxMessage extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private OutboxType type;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    private OutboxMessage(OutboxType type, String payload) {
+        this.type = validateType(type);
+        this.payload = validatePayload(payload);
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * OutboxRelay 가 전달하는 동안 다른 relay 가 가져가지 않도록 다음 시도 시각을 미룬다. attempts 는 바꾸지 않는다.
+     */
+    public void lease(Duration lease) {
+        this.nextAttemptAt = LocalDateTime.now().plus(lease);
+    }
+
+    public void retryLater(Duration backoff, String error) {
+        this.attempts++;
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+            ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private OutboxType validateType(OutboxType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Outbox type is null");
+        }
+        return type;
+    }
+
+    private String validatePayload(String payload) {
+        if (payload == null || payload.isBlank()) {
+            throw new IllegalArgumentException("Outbox payload is null");
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,6 @@
+package com.vp.voicepocket.domain.outbox.entity;
+
+public enum OutboxType {
+    TTS_REQUEST,
+    PUSH;
+}
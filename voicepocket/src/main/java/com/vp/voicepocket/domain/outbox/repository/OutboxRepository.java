@@ -0,0 +1,20 @@
+package com.vp.voicepocket.domain.outbox.repository;
+
+import com.vp.voicepocket.domain.outbox.entity.OutboxMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * 다른 relay 스레드(혹은 인스턴스)가 잠근 행은 건너뛰므로 각 스레드는 서로 겹치지 않는 배치를 가져간다.
+     * 트랜잭션 안에서 호출해야 한다.
+     */
+    @Query(value = "select * from outbox_message where next_attempt_at <= ?1 order by id limit ?2 for update skip locked",
+        nativeQuery = true)
+    List<OutboxMessage> findReadyForUpdate(LocalDateTime now, int limit);
+}
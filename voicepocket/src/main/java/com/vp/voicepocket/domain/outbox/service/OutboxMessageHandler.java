@@ -0,0 +1,25 @@
+package com.vp.voicepocket.domain.outbox.service;
+
+import com.vp.voicepocket.domain.outbox.entity.OutboxMessage;
+import com.vp.voicepocket.domain.outbox.entity.OutboxType;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * OutboxRelay 가 type 별로 메시지를 전달할 때 사용하는 핸들러.
+ */
+public interface OutboxMessageHandler {
+
+    OutboxType getType();
+
+    /**
+     * @return 전달이 확정되면 완료되는 future. 실패로 완료되면 backoff 후 다시 시도한다.
+     */
+    CompletableFuture<Void> dispatch(OutboxMessage outboxMessage);
+
+    /**
+     * 전달이 확정된 메시지가 삭제되기 직전에, 삭제하는 relay 트랜잭션 안에서 호출된다.
+     */
+    default void afterDelivered(List<OutboxMessage> outboxMessages) {
+    }
+}
@@ -0,0 +1,222 @@
+package com.vp.voicepocket.domain.outbox.service;
+
+import com.vp.voicepocket.domain.outbox.entity.OutboxMessage;
+import com.vp.voicepocket.domain.outbox.entity.OutboxType;
+import com.vp.voicepocket.domain.outbox.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox_message 테이블을 배치 단위로 비우는 relay.
+ *
+ * 배치 하나는 세 단계로 처리한다.
+ * 1. 짧은 트랜잭션에서 SELECT ... FOR UPDATE SKIP LOCKED 로 행을 가져와 next_attempt_at 을 lease 만큼 미루고 커밋한다.
+ *    lease 동안에는 다른 relay 스레드(혹은 인스턴스)가 같은 행을 가져가지 않는다.
+ * 2. 트랜잭션 밖에서 type 별 OutboxMessageHandler 로 전달하고, 배치 전체를 하나의 deadline 까지 기다린다.
+ * 3. 다시 짧은 트랜잭션에서 성공한 행은 삭제, 실패한 행은 지수 backoff 로 다음 시도 시각을 미룬다.
+ * 브로커가 응답하지 않아도 행 잠금과 DB 커넥션은 1, 3 단계 동안만 잡는다.
+ * 3 단계 전에 서버가 죽으면 lease 가 끝난 뒤 다시 전달되므로(at-least-once) 요청은 유실되지 않는다.
+ */
+@Slf4j
+@Component
+// 브로커 토폴로지 확인이 끝난 뒤에 발행을 시작한다.
+@DependsOn("rabbitTopologyVerifier")
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<OutboxType, OutboxMessageHandler> handlers = new EnumMap<>(OutboxType.class);
+    private final ScheduledExecutorService scheduler;
+    private final int threads;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long dispatchTimeoutMillis;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final MeterRegistry meterRegistry;
+
+    public OutboxRelay(OutboxRepository outboxRepository, TransactionTemplate transactionTemplate,
+        List<OutboxMessageHandler> handlers, MeterRegistry meterRegistry,
+        @Value("${voicepocket.outbox.relay.threads:2}") int threads,
+        @Value("${voicepocket.outbox.relay.batch-size:100}") int batchSize,
+        @Value("${voicepocket.outbox.relay.poll-interval-millis:100}") long pollIntervalMillis,
+        @Value("${voicepocket.outbox.relay.dispatch-timeout-millis:10000}") long dispatchTimeoutMillis,
+        @Value("${voicepocket.outbox.relay.lease-millis:60000}") long leaseMillis,
+        @Value("${voicepocket.outbox.relay.initial-backoff-millis:1000}") long initialBackoffMillis,
+        @Value("${voicepocket.outbox.relay.max-backoff-millis:300000}") long maxBackoffMillis) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        handlers.forEach(handler -> this.handlers.put(handler.getType(), handler));
+        this.meterRegistry = meterRegistry;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.dispatchTimeoutMillis = dispatchTimeoutMillis;
+        this.lease = Duration.ofMillis(Math.max(leaseMillis, dispatchTimeoutMillis));
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.scheduler = Executors.newScheduledThreadPool(threads,
+            new CustomizableThreadFactory("outbox-relay-"));
+    }
+
+    @PostConstruct
+    void start() {
+        for (int i = 0; i < threads; i++) {
+            scheduler.scheduleWithFixedDelay(this::relay, pollIntervalMillis, pollIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(dispatchTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize && !scheduler.isShutdown());
+        } catch (Exception e) {
+            log.error("outbox relay failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int relayBatch() {
+        var messages = claim();
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<Void>> results = new ArrayList<>(messages.size());
+        for (var message : messages) {
+            results.add(dispatch(message));
+        }
+        awaitAll(results);
+
+        List<OutboxMessage> delivered = new ArrayList<>(messages.size());
+        Map<Long, Throwable> failed = new HashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            var message = messages.get(i);
+            var error = errorOf(results.get(i));
+            if (error == null) {
+                delivered.add(message);
+                counter("outbox.relay.sent", message.getType()).increment();
+            } else {
+                failed.put(message.getId(), error);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> settle(delivered, failed));
+        return messages.size();
+    }
+
+    /**
+     * 보낼 행을 잠가 가져오고 lease 만큼 다음 시도 시각을 미룬 뒤 바로 커밋한다.
+     */
+    private List<OutboxMessage> claim() {
+        var messages = transactionTemplate.execute(status -> {
+            var ready = outboxRepository.findReadyForUpdate(LocalDateTime.now(), batchSize);
+            ready.forEach(message -> message.lease(lease));
+            return ready;
+        });
+        return messages == null ? List.of() : messages;
+    }
+
+    private void settle(List<OutboxMessage> delivered, Map<Long, Throwable> failed) {
+        afterDelivered(delivered);
+        outboxRepository.deleteAllByIdInBatch(delivered.stream()
+            .map(OutboxMessage::getId)
+            .collect(Collectors.toList()));
+        if (failed.isEmpty()) {
+            return;
+        }
+        for (var message : outboxRepository.findAllById(failed.keySet())) {
+            var error = failed.get(message.getId());
+            message.retryLater(backoff(message.getAttempts()), error.toString());
+            counter("outbox.relay.failed", message.getType()).increment();
+            log.warn("outbox message {} ({}) failed, attempts={}: {}", message.getId(),
+                message.getType(), message.getAttempts(), error.toString());
+        }
+    }
+
+    private void afterDelivered(List<OutboxMessage> delivered) {
+        delivered.stream()
+            .collect(Collectors.groupingBy(OutboxMessage::getType))
+            .forEach((type, messages) -> handlers.get(type).afterDelivered(messages));
+    }
+
+    private CompletableFuture<Void> dispatch(OutboxMessage message) {
+        var handler = handlers.get(message.getType());
+        if (handler == null) {
+            return CompletableFuture.failedFuture(
+                new IllegalStateException("No outbox handler for " + message.getType()));
+        }
+        try {
+            return handler.dispatch(message);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 배치 전체를 dispatchTimeoutMillis 하나의 deadline 까지 기다린다. 그때까지 끝나지 않은 전달은 실패로 본다.
+     */
+    private void awaitAll(List<CompletableFuture<Void>> results) {
+        try {
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .get(dispatchTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // 각 future 의 상태는 errorOf 에서 확인한다.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Throwable errorOf(CompletableFuture<Void> result) {
+        if (!result.isDone()) {
+            return new TimeoutException("Dispatch was not confirmed in time");
+        }
+        try {
+            result.join();
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            return e.getCause() == null ? e : e.getCause();
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        var backoff = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private Counter counter(String name, OutboxType type) {
+        return meterRegistry.counter(name, "type", type.name());
+    }
+}
@@ -0,0 +1,53 @@
+package com.vp.voicepocket.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vp.voicepocket.domain.outbox.entity.OutboxMessage;
+import com.vp.voicepocket.domain.outbox.entity.OutboxType;
+import com.vp.voicepocket.domain.outbox.repository.OutboxRepository;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 호출한 쪽의 트랜잭션에 참여하여 저장하므로, 업무 데이터가 커밋될 때에만 메시지도 남는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxMessage save(OutboxType type, Object payload) {
+        return outboxRepository.save(
+            OutboxMessage.builder().type(type).payload(serialize(payload)).build());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OutboxMessage> saveAll(OutboxType type, List<?> payloads) {
+        return outboxRepository.saveAll(payloads.stream()
+            .map(payload -> OutboxMessage.builder().type(type).payload(serialize(payload)).build())
+            .collect(Collectors.toList()));
+    }
+
+    public <T> T readPayload(OutboxMessage outboxMessage, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(outboxMessage.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox payload is not readable: " + outboxMessage.getId(), e);
+        }
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload is not serializable", e);
+        }
+    }
+}
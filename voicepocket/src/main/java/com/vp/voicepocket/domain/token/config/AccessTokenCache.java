@@ -0,0 +1,85 @@
+package com.vp.voicepocket.domain.token.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 Claims 를 보관하는 캐시.
+ * 같은 토큰이 다시 오면 base64 디코딩, HMAC 검증, JSON 파싱을 생략한다.
+ * 토큰 원문 대신 SHA-256 digest 를 키로 쓰며, 각 항목은 토큰의 exp 시각에 만료된다.
+ * 크기와 hit rate 는 cache.* 메트릭(cache=accessToken)으로 노출된다.
+ *
+ * 반환되는 Claims 는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 한다.
+ */
+@Component
+public class AccessTokenCache {
+
+    private static final String CACHE_NAME = "accessToken";
+
+    private final Cache<String, Claims> cache;
+
+    public AccessTokenCache(
+        @Value("${voicepocket.cache.access-token.maximum-size:50000}") long maximumSize,
+        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new ExpireAtTokenExpiration())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 없으면 parser 로 검증한 결과를 저장한다. 검증에 실패한 토큰은 저장하지 않고 예외를 그대로 전파한다.
+     */
+    public Claims get(String accessToken, Function<String, Claims> parser) {
+        return cache.get(digest(accessToken), key -> parser.apply(accessToken));
+    }
+
+    private String digest(String accessToken) {
+        try {
+            var hash = MessageDigest.getInstance("SHA-256")
+                .digest(accessToken.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            var expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
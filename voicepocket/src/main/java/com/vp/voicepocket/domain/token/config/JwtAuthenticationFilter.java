@@ -3,30 +3,51 @@ package com.vp.voicepocket.domain.token.config;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
 import com.vp.voicepocket.domain.token.exception.CAuthenticationEntryPointException;
+import com.vp.voicepocket.domain.user.cache.PrincipalCache;
+import com.vp.voicepocket.domain.user.cache.RevokedUserRegistry;
 import com.vp.voicepocket.domain.user.entity.enums.UserRole;
+import com.vp.voicepocket.domain.user.entity.vo.UserPrincipal;
 import io.jsonwebtoken.Claims;
 import java.io.IOException;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final RevokedUserRegistry revokedUserRegistry;
+    private final boolean claimsOnly;
+
+    /**
+     * @param claimsOnly true 이면 User 엔티티를 조회하지 않고 Claims(subject, role)만으로 인증한다.
+     *                   탈퇴한 회원은 RevokedUserRegistry 로 차단한다. 인스턴스가 여러 개이면 다른 인스턴스에서의 탈퇴는
+     *                   voicepocket.security.revocation.refresh-seconds 안에 반영되므로, 그동안은 기존 토큰이 통과할 수 있다.
+     */
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, UserDetailsService userDetailsService,
+        PrincipalCache principalCache, RevokedUserRegistry revokedUserRegistry,
+        @Value("${voicepocket.security.claims-only:false}") boolean claimsOnly) {
+        this.jwtProvider = jwtProvider;
+        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.revokedUserRegistry = revokedUserRegistry;
+        this.claimsOnly = claimsOnly;
+    }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
@@ -35,7 +56,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String accessToken = validateAccessToken(request.getHeader(AUTHORIZATION));
             var claims = jwtProvider.parseAccessToken(accessToken);
             validateClaims(claims);
-            var authentication = generateAuthenticationToken(claims.getSubject());
+            var authentication = generateAuthenticationToken(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (Exception e) {
             request.setAttribute("exception", e);
@@ -59,10 +80,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private Authentication generateAuthenticationToken(String userId) {
-        var userDetails = userDetailsService.loadUserByUsername(userId);
+    private Authentication generateAuthenticationToken(Claims claims) {
+        var userDetails = claimsOnly ? loadUserFromClaims(claims) : loadUser(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, "",
             userDetails.getAuthorities());
     }
 
+    private UserDetails loadUser(String userId) {
+        return principalCache.get(userId, userDetailsService::loadUserByUsername);
+    }
+
+    private UserDetails loadUserFromClaims(Claims claims) {
+        var principal = UserPrincipal.of(claims.getSubject(), claims.get("role", String.class));
+        if (revokedUserRegistry.isRevoked(principal.getUserId())) {
+            throw new CAuthenticationEntryPointException();
+        }
+        return principal;
+    }
+
 }
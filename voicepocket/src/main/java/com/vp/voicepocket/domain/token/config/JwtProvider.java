@@ -26,11 +26,14 @@ public class JwtProvider {
     private final String secretKey;
     private final String issuer;
     private final JwtParser jwtParser;
+    private final AccessTokenCache accessTokenCache;
 
-    public JwtProvider(@Value("${spring.jwt.secret}") String secretKey, @Value("${spring.jwt.issuer}") String issuer) {
+    public JwtProvider(@Value("${spring.jwt.secret}") String secretKey, @Value("${spring.jwt.issuer}") String issuer,
+        AccessTokenCache accessTokenCache) {
         this.secretKey = TextCodec.BASE64URL.encode(secretKey.getBytes(StandardCharsets.UTF_8));
         this.issuer = issuer;
         this.jwtParser = Jwts.parser().setSigningKey(secretKey);
+        this.accessTokenCache = accessTokenCache;
     }
 
     // Generate Access, Refresh Token
@@ -62,8 +65,9 @@ public class JwtProvider {
             .build();
     }
 
+    // 검증된 Claims 는 토큰 만료 시각까지 캐시된다.
     public Claims parseAccessToken(String accessToken) {
-        return jwtParser.parseClaimsJws(accessToken).getBody();
+        return accessTokenCache.get(accessToken, token -> jwtParser.parseClaimsJws(token).getBody());
     }
 
     public Claims parseAccessTokenWithOutExpiration(String accessToken) {
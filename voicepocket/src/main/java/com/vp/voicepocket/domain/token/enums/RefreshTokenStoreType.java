@@ -0,0 +1,13 @@
+package com.vp.voicepocket.domain.token.enums;
+
+/**
+ * refresh token 을 보관하는 곳. voicepocket.refresh-token.store 로 고른다.
+ */
+public enum RefreshTokenStoreType {
+    // refresh_token 테이블 (기본값). 로그인마다 MySQL 트랜잭션 쓰기가 일어난다.
+    JPA,
+    // 서버 메모리의 만료 map. 가장 빠르지만 재시작하면 모두 다시 로그인해야 하고, 서버를 여러 대 띄우면 쓸 수 없다.
+    MEMORY,
+    // Redis 프로토콜을 쓰는 외부 저장소. 서버 여러 대가 공유하며 만료는 저장소의 TTL 로 처리한다.
+    REDIS
+}
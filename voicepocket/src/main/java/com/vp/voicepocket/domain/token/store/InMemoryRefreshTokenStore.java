@@ -0,0 +1,82 @@
+package com.vp.voicepocket.domain.token.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.vp.voicepocket.domain.token.entity.RefreshToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 메모리의 Caffeine map 에 보관한다. 로그인과 재발급이 DB 커밋을 기다리지 않는다.
+ * 재시작하면 모든 토큰이 사라지고 인스턴스끼리 공유하지 않으므로, 서버를 한 대만 띄우는 환경에서만 켠다.
+ * 각 항목은 토큰의 만료 시각에 사라지며, Scheduler 가 만료 시각에 맞춰 백그라운드에서 지우므로
+ * 요청이 없어도 만료된 토큰이 메모리에 남지 않는다.
+ *
+ * maximumSize 를 넘으면 오래 쓰지 않은 회원의 토큰부터 버려지고, 그 회원은 다시 로그인해야 한다.
+ * 크기와 hit rate 는 cache.* 메트릭(cache=refreshToken)으로 노출된다.
+ */
+@Component
+@ConditionalOnProperty(name = "voicepocket.refresh-token.store", havingValue = "MEMORY")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Cache<Long, RefreshToken> cache;
+
+    public InMemoryRefreshTokenStore(
+        @Value("${voicepocket.refresh-token.memory.maximum-size:1000000}") long maximumSize,
+        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new ExpireAtExpiryDate())
+            .scheduler(Scheduler.systemScheduler())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "refreshToken");
+    }
+
+    @Override
+    public void save(Long userId, String refreshToken, Long expiryDate) {
+        cache.put(userId, RefreshToken.builder()
+            .id(userId)
+            .refreshToken(refreshToken)
+            .expiryDate(expiryDate)
+            .build());
+    }
+
+    @Override
+    public Optional<RefreshToken> findByUserId(Long userId) {
+        return Optional.ofNullable(cache.getIfPresent(userId));
+    }
+
+    private static class ExpireAtExpiryDate implements Expiry<Long, RefreshToken> {
+
+        @Override
+        public long expireAfterCreate(Long key, RefreshToken token, long currentTime) {
+            return remainingNanos(token);
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, RefreshToken token, long currentTime,
+            long currentDuration) {
+            // 다시 로그인하면 새 토큰의 만료 시각으로 바꾼다.
+            return remainingNanos(token);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, RefreshToken token, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+
+        private static long remainingNanos(RefreshToken token) {
+            long remainingMillis = token.getExpiryDate() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+    }
+}
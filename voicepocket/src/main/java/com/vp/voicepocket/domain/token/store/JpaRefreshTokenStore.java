@@ -0,0 +1,38 @@
+package com.vp.voicepocket.domain.token.store;
+
+import com.vp.voicepocket.domain.token.entity.RefreshToken;
+import com.vp.voicepocket.domain.token.repository.RefreshTokenRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * refresh_token 테이블에 보관한다. (기본값) 만료된 행은 지우지 않으며, 다음 로그인 때 덮어쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "voicepocket.refresh-token.store", havingValue = "JPA", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(Long userId, String refreshToken, Long expiryDate) {
+        refreshTokenRepository.findById(userId).ifPresentOrElse(
+            token -> token.updateToken(refreshToken, expiryDate),
+            () -> refreshTokenRepository.save(RefreshToken.builder()
+                .id(userId)
+                .refreshToken(refreshToken)
+                .expiryDate(expiryDate)
+                .build()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RefreshToken> findByUserId(Long userId) {
+        return refreshTokenRepository.findById(userId);
+    }
+}
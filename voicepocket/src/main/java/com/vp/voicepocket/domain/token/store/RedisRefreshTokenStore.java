@@ -0,0 +1,55 @@
+package com.vp.voicepocket.domain.token.store;
+
+import com.vp.voicepocket.domain.token.entity.RefreshToken;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 프로토콜 저장소(spring.redis.*)에 "refresh_token:{userId}" -> "{expiryDate}:{token}" 으로 보관한다.
+ * 키의 TTL 을 토큰의 만료 시각에 맞추므로 만료된 토큰은 저장소가 지운다.
+ * 요청마다 명령 한 번(SET / GET)이며 트랜잭션을 쓰지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "voicepocket.refresh-token.store", havingValue = "REDIS")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh_token:";
+    private static final char SEPARATOR = ':';
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(Long userId, String refreshToken, Long expiryDate) {
+        long ttlMillis = expiryDate - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            redisTemplate.delete(key(userId));
+            return;
+        }
+        redisTemplate.opsForValue()
+            .set(key(userId), String.valueOf(expiryDate) + SEPARATOR + refreshToken, Duration.ofMillis(ttlMillis));
+    }
+
+    @Override
+    public Optional<RefreshToken> findByUserId(Long userId) {
+        var value = redisTemplate.opsForValue().get(key(userId));
+        if (value == null) {
+            return Optional.empty();
+        }
+        // 만료 시각에는 ':' 이 없으므로 첫 ':' 로 나눈다.
+        int separator = value.indexOf(SEPARATOR);
+        return Optional.of(RefreshToken.builder()
+            .id(userId)
+            .refreshToken(value.substring(separator + 1))
+            .expiryDate(Long.parseLong(value.substring(0, separator)))
+            .build());
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
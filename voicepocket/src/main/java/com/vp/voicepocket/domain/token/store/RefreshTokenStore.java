@@ -0,0 +1,18 @@
+package com.vp.voicepocket.domain.token.store;
+
+import com.vp.voicepocket.domain.token.entity.RefreshToken;
+import java.util.Optional;
+
+/**
+ * 회원별 refresh token 저장소. 회원당 하나만 보관하며, 다시 로그인하면 덮어쓴다.
+ * 구현은 voicepocket.refresh-token.store (RefreshTokenStoreType) 로 하나만 등록된다.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * @param expiryDate 만료 시각 (epoch ms). 이 시각이 지나면 저장소에서 사라질 수 있다.
+     */
+    void save(Long userId, String refreshToken, Long expiryDate);
+
+    Optional<RefreshToken> findByUserId(Long userId);
+}
@@ -0,0 +1,56 @@
+package com.vp.voicepocket.domain.user.cache;
+
+import com.vp.voicepocket.domain.user.repository.UserRepository;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탈퇴하지 않은 회원의 email 목록.
+ * 기동 시 한 번 DB 에서 채우고, 이후에는 UserCacheEvictionListener 가 가입/탈퇴 시점에 갱신한다.
+ *
+ * 가입 트랜잭션이 롤백되면 email 이 목록에 남을 수 있으므로, 이 목록은 "존재할 수 있는 회원" 으로만 취급한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "voicepocket.message.sender-check", havingValue = "KNOWN_USERS", matchIfMissing = true)
+public class KnownUserRegistry {
+
+    private final Set<String> emails = ConcurrentHashMap.newKeySet();
+    private final UserRepository userRepository;
+    private volatile boolean loaded;
+
+    public KnownUserRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        emails.addAll(userRepository.findAllActiveEmails());
+        loaded = true;
+        log.info("known users loaded: {}", emails.size());
+    }
+
+    /**
+     * @return 목록을 아직 채우지 못했다면 판단할 수 없으므로 호출자가 DB 로 확인해야 한다.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public boolean contains(String email) {
+        return emails.contains(email);
+    }
+
+    public void add(String email) {
+        emails.add(email);
+    }
+
+    public void remove(String email) {
+        emails.remove(email);
+    }
+}
@@ -0,0 +1,55 @@
+package com.vp.voicepocket.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vp.voicepocket.domain.user.entity.vo.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * JwtAuthenticationFilter 에서 매 요청마다 Users 테이블을 조회하지 않도록 인증 주체를 보관하는 캐시.
+ * 크기와 TTL 로 제한되며, 회원 정보가 바뀌면 UserCacheEvictionListener 가 즉시 제거한다.
+ * hit / miss / eviction 수치는 cache.* 메트릭(cache=principal)으로 노출된다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private static final String CACHE_NAME = "principal";
+
+    private final Cache<String, UserPrincipal> cache;
+
+    public PrincipalCache(
+        @Value("${voicepocket.cache.principal.maximum-size:10000}") long maximumSize,
+        @Value("${voicepocket.cache.principal.ttl-seconds:300}") long ttlSeconds,
+        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회한 결과를 UserPrincipal 로 변환하여 보관한다.
+     * loader 가 예외를 던지면 캐시에 저장하지 않고 그대로 전파한다.
+     */
+    public UserDetails get(String userId, Function<String, ? extends UserDetails> loader) {
+        return cache.get(userId, key -> UserPrincipal.from(loader.apply(key)));
+    }
+
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.invalidate(userId.toString());
+        log.debug("principal cache evicted: {}", userId);
+    }
+}
@@ -0,0 +1,89 @@
+package com.vp.voicepocket.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vp.voicepocket.domain.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탈퇴한 회원의 userId 를 보관하는 deny list.
+ * Claims 만으로 인증하는 모드에서는 DB 를 조회하지 않으므로, 아직 만료되지 않은 액세스 토큰을 이 목록으로 차단한다.
+ * 액세스 토큰은 발급 후 ttl 이 지나면 어차피 만료되므로 그 이후에는 항목을 유지할 필요가 없다.
+ *
+ * 목록은 인스턴스마다 따로 가지므로, 다른 인스턴스에서 탈퇴한 회원은 refresh-seconds 마다 DB(deletedAt)를 다시 읽어 반영한다.
+ * 즉 여러 인스턴스에서는 탈퇴 후 최대 refresh-seconds 동안 다른 인스턴스에서 기존 액세스 토큰이 통과할 수 있다.
+ */
+@Slf4j
+@Component
+public class RevokedUserRegistry {
+
+    private final Cache<Long, Boolean> revoked;
+    private final UserRepository userRepository;
+    private final long ttlSeconds;
+    private final long refreshSeconds;
+    private final boolean claimsOnly;
+    private final ScheduledExecutorService scheduler;
+
+    public RevokedUserRegistry(
+        @Value("${voicepocket.security.revocation.ttl-seconds:3600}") long ttlSeconds,
+        @Value("${voicepocket.security.revocation.refresh-seconds:10}") long refreshSeconds,
+        @Value("${voicepocket.security.claims-only:false}") boolean claimsOnly,
+        UserRepository userRepository) {
+        this.revoked = Caffeine.newBuilder()
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .build();
+        this.userRepository = userRepository;
+        this.ttlSeconds = ttlSeconds;
+        this.refreshSeconds = refreshSeconds;
+        this.claimsOnly = claimsOnly;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("revoked-user-refresh-"));
+    }
+
+    /**
+     * 목록은 claims-only 모드에서만 사용하므로, 그때만 최근 ttl 안에 탈퇴한 회원을 주기적으로 다시 채운다.
+     * 서버 재시작으로 목록이 비는 경우와 다른 인스턴스에서의 탈퇴를 함께 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (claimsOnly) {
+            scheduler.scheduleWithFixedDelay(this::load, 0, refreshSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void load() {
+        try {
+            var since = LocalDateTime.now().minusSeconds(ttlSeconds);
+            var userIds = userRepository.findIdsDeletedAfter(since);
+            userIds.forEach(this::revoke);
+            log.debug("revoked users loaded: {}", userIds.size());
+        } catch (Exception e) {
+            log.error("failed to load revoked users: {}", e.getMessage(), e);
+        }
+    }
+
+    public void revoke(Long userId) {
+        if (userId != null) {
+            revoked.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isRevoked(Long userId) {
+        return revoked.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.vp.voicepocket.domain.user.cache;
+
+import com.vp.voicepocket.domain.user.entity.User;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티가 변경(deleteUser, 닉네임/권한 변경 등)되거나 삭제되면 사용자 단위 캐시를 비우고,
+ * 탈퇴한 회원은 커밋 직후 RevokedUserRegistry 에 등록한다. (롤백된 탈퇴는 등록하지 않는다)
+ * 가입/탈퇴 시 KnownUserRegistry 의 email 목록도 갱신한다.
+ * Hibernate 가 SpringBeanContainer 를 통해 생성하므로 스프링 빈을 주입받을 수 있다.
+ */
+@Component
+public class UserCacheEvictionListener {
+
+    private final ObjectProvider<PrincipalCache> principalCache;
+    private final ObjectProvider<RevokedUserRegistry> revokedUserRegistry;
+    private final ObjectProvider<KnownUserRegistry> knownUserRegistry;
+
+    public UserCacheEvictionListener(ObjectProvider<PrincipalCache> principalCache,
+        ObjectProvider<RevokedUserRegistry> revokedUserRegistry,
+        ObjectProvider<KnownUserRegistry> knownUserRegistry) {
+        this.principalCache = principalCache;
+        this.revokedUserRegistry = revokedUserRegistry;
+        this.knownUserRegistry = knownUserRegistry;
+    }
+
+    @PostPersist
+    public void onPersist(User user) {
+        knownUserRegistry.ifAvailable(registry -> registry.add(user.getEmail()));
+    }
+
+    @PostUpdate
+    public void onUpdate(User user) {
+        evict(user);
+        if (!user.isEnabled()) {
+            revokeAfterCommit(user);
+            knownUserRegistry.ifAvailable(registry -> registry.remove(user.getEmail()));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        evict(user);
+        revokeAfterCommit(user);
+        knownUserRegistry.ifAvailable(registry -> registry.remove(user.getEmail()));
+    }
+
+    private void revokeAfterCommit(User user) {
+        var userId = user.getId();
+        revokedUserRegistry.ifAvailable(registry -> {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                registry.revoke(userId);
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registry.revoke(userId);
+                }
+            });
+        });
+    }
+
+    /**
+     * 커밋 전에 다른 요청이 이전 User 를 다시 캐시할 수 있으므로 커밋 직후에 한 번 더 비운다.
+     */
+    private void evict(User user) {
+        var userId = user.getId();
+        principalCache.ifAvailable(cache -> {
+            cache.evict(userId);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        cache.evict(userId);
+                    }
+                });
+            }
+        });
+    }
+}
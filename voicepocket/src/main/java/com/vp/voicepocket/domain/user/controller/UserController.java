@@ -11,13 +11,25 @@ import com.vp.voicepocket.global.common.response.model.SingleResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "User")
 @RequiredArgsConstructor
@@ -25,8 +37,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/admin")
 public class UserController {
 
+    private static final String EXPORT_TIMEOUT_INTERCEPTOR = UserController.class.getName() + ".exportTimeout";
+
     private final UserService userService;
 
+    // 전체 내보내기는 컨테이너 기본 async timeout(30s)보다 오래 걸리므로 이 요청에만 따로 적용한다.
+    @Value("${voicepocket.user.export.timeout-minutes:10}")
+    private long exportTimeoutMinutes;
+
     @Operation(summary = "회원 단건 검색", description = "userId로 회원을 조회합니다.")
     @GetMapping("/user/id/{userId}")
     public SingleResult<UserResponseDto> findUserById(
@@ -43,10 +61,30 @@ public class UserController {
         return ResponseFactory.createSingleResult(userService.findUserByEmail(Email.from(email)));
     }
 
-    @Operation(summary = "회원 목록 조회", description = "모든 회원을 조회합니다.")
+    @Operation(summary = "회원 목록 조회", description = "회원을 최근 가입 순으로 페이지 단위로 조회합니다.")
     @GetMapping("/users")
-    public ListResult<UserResponseDto> findAllUser() {
-        return ResponseFactory.createListResult(userService.findAllUser());
+    public ListResult<UserResponseDto> findAllUser(
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최대 500)") @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseFactory.createListResult(userService.findAllUser(cursor, size));
+    }
+
+    @Operation(summary = "회원 전체 내보내기", description = "모든 회원을 한 줄에 하나씩 JSON(NDJSON)으로 내려받습니다.")
+    @GetMapping(value = "/users/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllUser(HttpServletRequest request) {
+        long timeoutMillis = TimeUnit.MINUTES.toMillis(exportTimeoutMinutes);
+        // StreamingResponseBody 는 비동기 처리가 시작되기 직전에 이 요청의 timeout 을 바꾼다.
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT_INTERCEPTOR,
+            new CallableProcessingInterceptor() {
+                @Override
+                public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                    ((AsyncWebRequest) webRequest).setTimeout(timeoutMillis);
+                }
+            });
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(userService::exportAllUser);
     }
 
     @PutMapping("/user")
@@ -1,5 +1,6 @@
 package com.vp.voicepocket.domain.user.entity;
 
+import com.vp.voicepocket.domain.user.cache.UserCacheEvictionListener;
 import com.vp.voicepocket.domain.user.entity.enums.UserRole;
 import com.vp.voicepocket.domain.user.entity.vo.Email;
 import com.vp.voicepocket.domain.user.exception.CEmailLoginFailedException;
@@ -9,11 +10,13 @@ import java.util.Collection;
 import java.util.List;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -27,8 +30,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "Users")
+@Table(name = "Users", indexes = {
+    // 관리자 회원 목록의 keyset 페이지네이션 (created_date, id)
+    @Index(name = "idx_users_created_date", columnList = "created_date")
+})
 @Entity
+@EntityListeners(UserCacheEvictionListener.class)
 public class User extends BaseEntity implements UserDetails {
 
     @Id
@@ -0,0 +1,81 @@
+package com.vp.voicepocket.domain.user.entity.vo;
+
+import com.vp.voicepocket.domain.user.entity.enums.UserRole;
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * SecurityContext 에 올라가는 가벼운 인증 주체.
+ * User 엔티티 대신 userId 와 권한만 들고 있으므로 요청 간에 캐시하거나 스레드 간에 공유해도 안전하다.
+ */
+@Getter
+public class UserPrincipal implements UserDetails {
+
+    private final Long userId;
+    private final UserRole role;
+    private final boolean enabled;
+
+    private UserPrincipal(Long userId, UserRole role, boolean enabled) {
+        this.userId = userId;
+        this.role = role;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Jwt Claims 의 subject 와 role 만으로 인증 주체를 만든다. (DB 조회 없음)
+     */
+    public static UserPrincipal of(String userId, String role) {
+        return new UserPrincipal(Long.parseLong(userId), UserRole.valueOf(role), true);
+    }
+
+    public static UserPrincipal from(UserDetails userDetails) {
+        if (userDetails instanceof UserPrincipal) {
+            return (UserPrincipal) userDetails;
+        }
+        var role = userDetails.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .filter(UserRole::isUserRole)
+            .map(UserRole::valueOf)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("사용자 권한은 필수 입력값입니다."));
+        return new UserPrincipal(Long.parseLong(userDetails.getUsername()), role,
+            userDetails.isEnabled());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+
+    /**
+     * @return 인증은 Jwt 로 처리하므로 비밀번호는 들고 있지 않는다.
+     */
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public String getUsername() {
+        return userId.toString();
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+}
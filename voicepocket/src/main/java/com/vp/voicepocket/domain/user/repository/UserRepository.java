@@ -1,10 +1,19 @@
 package com.vp.voicepocket.domain.user.repository;
 
+import static org.hibernate.jpa.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HINT_READONLY;
 
 import com.vp.voicepocket.domain.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -17,4 +26,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("select u from User u where u.email = ?1 and u.deletedAt is null")
     Optional<User> findByEmail(@NonNull String email);
+
+    @Query("select count(u) > 0 from User u where u.email = ?1 and u.deletedAt is null")
+    boolean existsActiveByEmail(@NonNull String email);
+
+    @Query("select u.email from User u where u.deletedAt is null")
+    List<String> findAllActiveEmails();
+
+    @Query("select u.email from User u where u.email in ?1 and u.deletedAt is null")
+    List<String> findEmailsByEmailIn(@NonNull Collection<String> emails);
+
+    @Query("select u.id from User u where u.deletedAt > ?1")
+    List<Long> findIdsDeletedAfter(@NonNull LocalDateTime deletedAt);
+
+    // 관리자 회원 목록. (createdDate, id) 내림차순 keyset 으로 페이지를 나눈다.
+    @Query("select u from User u order by u.createdDate desc, u.id desc")
+    List<User> findPage(Pageable pageable);
+
+    @Query("select u from User u where u.createdDate < ?1 or (u.createdDate = ?1 and u.id < ?2) "
+        + "order by u.createdDate desc, u.id desc")
+    List<User> findPageBefore(LocalDateTime createdDate, Long id, Pageable pageable);
+
+    /**
+     * 전체 회원을 forward-only 커서로 한 행씩 읽는다. 트랜잭션 안에서 사용하고 반드시 닫아야 한다.
+     * MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 메모리에 모두 올리지 않고 스트리밍한다.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select u from User u")
+    Stream<User> streamAll();
 }
@@ -5,9 +5,8 @@ import com.vp.voicepocket.domain.firebase.entity.FCMUserToken;
 import com.vp.voicepocket.domain.firebase.repository.FCMRepository;
 import com.vp.voicepocket.domain.token.config.JwtProvider;
 import com.vp.voicepocket.domain.token.dto.TokenDto;
-import com.vp.voicepocket.domain.token.entity.RefreshToken;
 import com.vp.voicepocket.domain.token.exception.CRefreshTokenException;
-import com.vp.voicepocket.domain.token.repository.RefreshTokenRepository;
+import com.vp.voicepocket.domain.token.store.RefreshTokenStore;
 import com.vp.voicepocket.domain.user.dto.request.UserLoginRequestDto;
 import com.vp.voicepocket.domain.user.dto.request.UserSignupRequestDto;
 import com.vp.voicepocket.domain.user.entity.User;
@@ -27,7 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class SignService {
 
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final FCMRepository fcmRepository;
@@ -53,12 +52,7 @@ public class SignService {
         TokenDto tokenDto = jwtProvider.generateTokens(user.getId(), user.getRole().toString());
 
         // RefreshToken 관리
-        refreshTokenRepository.findById(user.getId()).ifPresentOrElse(
-            refreshToken -> refreshToken.updateToken(tokenDto.getRefreshToken(),
-                tokenDto.getRefreshTokenExpiryDate()),
-            () -> refreshTokenRepository.save(
-                RefreshToken.builder().id(user.getId()).refreshToken(tokenDto.getRefreshToken())
-                    .expiryDate(tokenDto.getRefreshTokenExpiryDate()).build()));
+        refreshTokenStore.save(user.getId(), tokenDto.getRefreshToken(), tokenDto.getRefreshTokenExpiryDate());
 
         // FCM TOKEN 관리
         fcmRepository.findByUserId(user).ifPresentOrElse(
@@ -68,13 +62,14 @@ public class SignService {
         return tokenDto;
     }
 
-    @Transactional
+    // refresh token 은 RefreshTokenStore 에서 읽기만 하므로 DB 에는 쓰지 않는다.
+    @Transactional(readOnly = true)
     public TokenDto reissue(String accessToken, String refreshToken) {
         accessToken = validateAccessToken(accessToken);
         Long userId = Long.parseLong(
             jwtProvider.parseAccessTokenWithOutExpiration(accessToken).getSubject());
-        // RefreshTokenRepository 에서 Username (pk) 가져오기
-        var token = refreshTokenRepository.findById(userId)
+        // RefreshTokenStore 에서 Username (pk) 로 가져오기
+        var token = refreshTokenStore.findByUserId(userId)
             .orElseThrow(CRefreshTokenException::new);
         token.validateRefreshToken(refreshToken);
         // user pk로 유저 검색 / repo 에 저장된 Refresh Token 가져오기
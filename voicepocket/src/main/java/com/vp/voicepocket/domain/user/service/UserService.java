@@ -1,16 +1,24 @@
 package com.vp.voicepocket.domain.user.service;
 
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.vp.voicepocket.domain.user.dto.request.UserRequestDto;
 import com.vp.voicepocket.domain.user.dto.response.UserResponseDto;
 import com.vp.voicepocket.domain.user.entity.User;
 import com.vp.voicepocket.domain.user.entity.vo.Email;
 import com.vp.voicepocket.domain.user.exception.CUserNotFoundException;
 import com.vp.voicepocket.domain.user.repository.UserRepository;
-import java.util.List;
-import java.util.stream.Collectors;
+import com.vp.voicepocket.global.common.cursor.Cursor;
+import com.vp.voicepocket.global.common.cursor.CursorPage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import javax.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +28,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UserService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
     public UserResponseDto findUserById(Long id) {
         User user = userRepository.findById(id)
@@ -34,11 +47,40 @@ public class UserService {
         return new UserResponseDto(user);
     }
 
-    public List<UserResponseDto> findAllUser() {
-        return userRepository.findAll()
-            .stream()
-            .map(UserResponseDto::new)
-            .collect(Collectors.toList());
+    public CursorPage<UserResponseDto> findAllUser(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Cursor position = Cursor.decode(cursor);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회한다.
+        var pageable = PageRequest.of(0, pageSize + 1);
+        var users = position == null
+            ? userRepository.findPage(pageable)
+            : userRepository.findPageBefore(position.getCreatedDate(), position.getId(), pageable);
+        return CursorPage.of(users, pageSize, user -> Cursor.of(user.getCreatedDate(), user.getId()))
+            .map(UserResponseDto::new);
+    }
+
+    /**
+     * 전체 회원을 한 줄에 하나씩 JSON(NDJSON)으로 outputStream 에 쓴다.
+     * 회원을 한 행씩 읽어 쓰고 바로 영속성 컨텍스트에서 분리하므로, 회원 수와 관계없이 메모리 사용량이 일정하다.
+     */
+    public void exportAllUser(OutputStream outputStream) throws IOException {
+        // 행마다 flush 하지 않고 generator 버퍼가 찰 때마다 응답으로 내보낸다.
+        var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (var users = userRepository.streamAll();
+            var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            users.forEach(user -> {
+                try {
+                    writer.writeValue(generator, new UserResponseDto(user));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                entityManager.detach(user);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     @Transactional
@@ -0,0 +1,61 @@
+package com.vp.voicepocket.global.common.amqp;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+/**
+ * 메시지 본문을 CBOR(RFC 8949)로 변환한다. JSON 과 같은 Jackson 매핑을 쓰므로 모델 클래스는 그대로 사용한다.
+ *
+ * 타입 정보를 __TypeId__ 헤더로 싣지 않고, 수신 시에는 리스너 메서드의 파라미터 타입(inferredArgumentType)으로 읽는다.
+ * 클래스별 ObjectReader / ObjectWriter 는 처음 한 번만 만들어 재사용한다. (둘 다 불변이라 스레드 간 공유해도 안전하다)
+ */
+public class CborMessageConverter extends AbstractMessageConverter {
+
+    public static final String CONTENT_TYPE = "application/cbor";
+
+    private final CBORMapper mapper;
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public CborMessageConverter() {
+        this.mapper = CBORMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    }
+
+    @Override
+    protected Message createMessage(Object object, MessageProperties messageProperties) {
+        try {
+            var body = writers.computeIfAbsent(object.getClass(), mapper::writerFor).writeValueAsBytes(object);
+            messageProperties.setContentType(CONTENT_TYPE);
+            messageProperties.setContentLength(body.length);
+            return new Message(body, messageProperties);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to encode " + object.getClass().getName() + " as CBOR", e);
+        }
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        var type = message.getMessageProperties().getInferredArgumentType();
+        if (type == null) {
+            throw new MessageConversionException("CBOR message needs a typed listener parameter");
+        }
+        try {
+            return readers.computeIfAbsent(type, key -> mapper.readerFor(mapper.constructType(key)))
+                .readValue(message.getBody());
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to decode CBOR message as " + type.getTypeName(), e);
+        }
+    }
+}
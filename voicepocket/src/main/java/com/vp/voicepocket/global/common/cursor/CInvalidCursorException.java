@@ -0,0 +1,15 @@
+package com.vp.voicepocket.global.common.cursor;
+
+public class CInvalidCursorException extends RuntimeException {
+    public CInvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CInvalidCursorException(String message) {
+        super(message);
+    }
+
+    public CInvalidCursorException() {
+        super();
+    }
+}
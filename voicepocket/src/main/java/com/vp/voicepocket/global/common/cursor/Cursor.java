@@ -0,0 +1,52 @@
+package com.vp.voicepocket.global.common.cursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * (createdDate, id) keyset 페이지네이션의 위치.
+ * 클라이언트에는 내용을 알 수 없는 문자열(base64url)로만 전달한다.
+ */
+@Getter
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdDate;
+    private final Long id;
+
+    private Cursor(LocalDateTime createdDate, Long id) {
+        this.createdDate = createdDate;
+        this.id = id;
+    }
+
+    public static Cursor of(LocalDateTime createdDate, Long id) {
+        return new Cursor(createdDate, id);
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.lastIndexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(decoded.substring(0, delimiter)),
+                Long.parseLong(decoded.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CInvalidCursorException(cursor, e);
+        }
+    }
+
+    public String encode() {
+        var raw = createdDate.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,38 @@
+package com.vp.voicepocket.global.common.cursor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * keyset 페이지 한 장과 다음 페이지의 cursor. 마지막 페이지이면 nextCursor 는 null 이다.
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    private CursorPage(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @param rows     size + 1 개까지 조회한 결과. size 보다 많으면 다음 페이지가 있다.
+     * @param cursorOf 행에서 cursor 를 만드는 함수
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(List.copyOf(rows), null);
+        }
+        var content = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(content, cursorOf.apply(content.get(size - 1)).encode());
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(
+            content.stream().map(mapper).collect(Collectors.toUnmodifiableList()), nextCursor);
+    }
+}
@@ -1,5 +1,6 @@
 package com.vp.voicepocket.global.common.response;
 
+import com.vp.voicepocket.global.common.cursor.CursorPage;
 import com.vp.voicepocket.global.common.response.model.CommonResult;
 import com.vp.voicepocket.global.common.response.model.ListResult;
 import com.vp.voicepocket.global.common.response.model.SingleResult;
@@ -24,6 +25,12 @@ public class ResponseFactory {
         return result;
     }
 
+    public static <T> ListResult<T> createListResult(CursorPage<T> page) {
+        ListResult<T> result = createListResult(page.getContent());
+        result.setNextCursor(page.getNextCursor());
+        return result;
+    }
+
     public static CommonResult createSuccessResult() {
         CommonResult result = new CommonResult();
         setSuccessResult(result);
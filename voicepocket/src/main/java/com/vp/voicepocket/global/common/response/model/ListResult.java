@@ -11,4 +11,7 @@ import java.util.List;
 @Schema(title = "다중 응답 모델", description = "API 반환값이 다중 객체일 경우 해당 모델로 처리합니다.")
 public class ListResult<T> extends CommonResult {
     private List<T> data;
+
+    @Schema(title = "다음 페이지 cursor", description = "다음 페이지를 조회할 때 전달할 값. 마지막 페이지이면 null")
+    private String nextCursor;
 }
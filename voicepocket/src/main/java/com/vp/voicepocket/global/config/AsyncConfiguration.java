@@ -0,0 +1,82 @@
+package com.vp.voicepocket.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfiguration {
+
+    public static final String PUSH_TASK_EXECUTOR = "pushTaskExecutor";
+
+    /**
+     * 포화 시 동작.
+     * CALLER_RUNS: 이벤트를 발행한 스레드가 직접 처리한다.
+     * OUTBOX: 거절하고(TaskRejectedException) 호출자가 outbox 에 남겨 relay 가 나중에 보내게 한다.
+     */
+    public enum RejectionPolicy {
+        CALLER_RUNS, OUTBOX
+    }
+
+    @Value("${voicepocket.push.executor.core-size:4}")
+    private int corePoolSize;
+
+    // 각 작업이 DB 커넥션을 잠깐 사용하므로 Hikari maximum-pool-size(기본 10) 보다 작게 유지한다.
+    @Value("${voicepocket.push.executor.max-size:8}")
+    private int maxPoolSize;
+
+    @Value("${voicepocket.push.executor.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${voicepocket.push.executor.rejection-policy:CALLER_RUNS}")
+    private RejectionPolicy rejectionPolicy;
+
+    /**
+     * push executor 를 추가하면 Boot 의 기본 applicationTaskExecutor 가 만들어지지 않으므로 직접 등록한다.
+     * (MVC 비동기 요청이 사용)
+     */
+    @Primary
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = PUSH_TASK_EXECUTOR)
+    ThreadPoolTaskExecutor pushTaskExecutor(MeterRegistry meterRegistry) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("push-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        Counter rejected = Counter.builder("push.executor.rejected")
+            .tag("policy", rejectionPolicy.name())
+            .description("push executor 가 포화되어 거절한 작업 수")
+            .register(meterRegistry);
+        var delegate = rejectionPolicy == RejectionPolicy.CALLER_RUNS
+            ? new ThreadPoolExecutor.CallerRunsPolicy()
+            : new ThreadPoolExecutor.AbortPolicy();
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, pool);
+        });
+
+        Gauge.builder("push.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .description("push 를 처리 중인 스레드 수")
+            .register(meterRegistry);
+        Gauge.builder("push.executor.queue.size", executor,
+                e -> e.getThreadPoolExecutor().getQueue().size())
+            .description("push executor 에서 대기 중인 작업 수")
+            .register(meterRegistry);
+        return executor;
+    }
+}
@@ -1,19 +1,37 @@
 package com.vp.voicepocket.global.config;
 
+import com.vp.voicepocket.domain.message.enums.TtsLane;
+import com.vp.voicepocket.domain.message.service.InputMessagePublisher;
+import com.vp.voicepocket.domain.message.service.OutputMessageRecoverer;
+import com.vp.voicepocket.domain.user.exception.CUserNotFoundException;
+import com.vp.voicepocket.global.common.amqp.CborMessageConverter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+import org.springframework.retry.policy.SimpleRetryPolicy;
 
 @Configuration
 public class RabbitConfig {
@@ -32,36 +50,210 @@ public class RabbitConfig {
     @Value("${spring.rabbitmq.port}")
     private int port;
 
+    @Value("${voicepocket.rabbit.message-format:json}")
+    private String messageFormat;
+
+    @Value("${voicepocket.rabbit.listener.concurrency:4}")
+    private int concurrency;
+
+    @Value("${voicepocket.rabbit.listener.max-concurrency:16}")
+    private int maxConcurrency;
+
+    @Value("${voicepocket.rabbit.listener.prefetch:50}")
+    private int prefetch;
+
+    @Value("${voicepocket.rabbit.listener.batch-size:100}")
+    private int batchSize;
+
+    @Value("${voicepocket.rabbit.listener.batch-receive-timeout-millis:200}")
+    private long batchReceiveTimeout;
+
+    @Value("${voicepocket.rabbit.listener.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    @Value("${voicepocket.rabbit.listener.retry.initial-interval-millis:200}")
+    private long retryInitialInterval;
+
+    @Value("${voicepocket.rabbit.listener.retry.max-interval-millis:2000}")
+    private long retryMaxInterval;
+
+    /**
+     * 리스너가 거절한 메시지는 다시 큐에 넣지 않고 output.dlx 로 보낸다. (hot loop 방지)
+     * 보통은 OutputMessageRecoverer 가 먼저 retry queue 나 dead-letter queue 로 보내므로, 이 설정은 그마저 실패했을 때의 안전망이다.
+     */
     @Bean
     Queue queue() {
-        return new Queue("output.queue", true);
+        return QueueBuilder.durable(OutputMessageRecoverer.OUTPUT_QUEUE)
+                .deadLetterExchange(OutputMessageRecoverer.DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(OutputMessageRecoverer.ROUTING_KEY)
+                .build();
     }
 
     @Bean
     DirectExchange directExchange() {
-        return new DirectExchange("output.exchange");
+        return new DirectExchange(OutputMessageRecoverer.OUTPUT_EXCHANGE);
+    }
+
+    // Queue, DirectExchange 빈이 여러 개이므로 타입으로 주입받지 않고 직접 참조한다.
+    @Bean
+    Binding binding() {
+        return BindingBuilder.bind(queue()).to(directExchange()).with(OutputMessageRecoverer.ROUTING_KEY);
+    }
+
+    @Bean
+    Declarables outputDeadLetterTopology() {
+        var exchange = new DirectExchange(OutputMessageRecoverer.DEAD_LETTER_EXCHANGE);
+        var queue = QueueBuilder.durable(OutputMessageRecoverer.DEAD_LETTER_QUEUE).build();
+        return new Declarables(exchange, queue,
+                BindingBuilder.bind(queue).to(exchange).with(OutputMessageRecoverer.ROUTING_KEY));
     }
 
+    /**
+     * 재시도 단계마다 TTL 이 다른 retry queue 를 둔다. 소비자가 없으므로 TTL 이 지나면 메시지가 output.exchange 로 돌아간다.
+     */
     @Bean
-    Binding binding(DirectExchange directExchange, Queue queue) {
-        return BindingBuilder.bind(queue).to(directExchange).with("output.key");
+    Declarables outputRetryTopology(OutputMessageRecoverer outputMessageRecoverer) {
+        var exchange = new DirectExchange(OutputMessageRecoverer.RETRY_EXCHANGE);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        var delays = outputMessageRecoverer.getRetryDelaysMillis();
+        for (int attempt = 1; attempt <= delays.size(); attempt++) {
+            var queue = QueueBuilder.durable(OutputMessageRecoverer.retryQueue(attempt))
+                    .ttl(delays.get(attempt - 1).intValue())
+                    .deadLetterExchange(OutputMessageRecoverer.OUTPUT_EXCHANGE)
+                    .deadLetterRoutingKey(OutputMessageRecoverer.ROUTING_KEY)
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange)
+                    .with(OutputMessageRecoverer.retryRoutingKey(attempt)));
+        }
+        return new Declarables(declarables);
+    }
+
+    // classic 또는 quorum. quorum 은 복제되지만 priority 를 지원하지 않으므로 lane 우선순위가 적용되지 않는다.
+    @Value("${voicepocket.rabbit.input.queue-type:classic}")
+    private String inputQueueType;
+
+    // classic queue 에서 메시지를 바로 디스크로 내려 backlog 가 커져도 메모리를 쓰지 않는다. (RabbitMQ 3.12 부터는 기본 동작)
+    @Value("${voicepocket.rabbit.input.lazy:false}")
+    private boolean inputLazy;
+
+    // 0 이면 제한 없음
+    @Value("${voicepocket.rabbit.input.max-length:100000}")
+    private int inputMaxLength;
+
+    // reject-publish 이면 가득 찬 큐에 대한 발행이 nack 되고, 요청은 outbox 에 남아 backoff 후 다시 발행된다.
+    @Value("${voicepocket.rabbit.input.overflow:reject-publish}")
+    private String inputOverflow;
+
+    // 0 이면 만료 없음. 만료된 요청은 결과가 오지 않으므로 TtsJob 이 끝나지 않는다는 점에 주의한다.
+    @Value("${voicepocket.rabbit.input.message-ttl-millis:0}")
+    private int inputMessageTtl;
+
+    /**
+     * TTS 요청 큐. celery_consumer 는 이 큐를 선언하지 않고 사용만 하므로, 인자는 여기서만 관리한다.
+     * 인자를 바꾸면 기존 큐와 맞지 않아 선언이 실패하므로(RabbitTopologyVerifier 가 기동을 중단한다) 큐를 비운 뒤 지우고 다시 만들어야 한다.
+     */
+    @Bean
+    Queue inputQueue() {
+        var builder = QueueBuilder.durable(InputMessagePublisher.INPUT_QUEUE);
+        if ("quorum".equalsIgnoreCase(inputQueueType)) {
+            builder.quorum();
+        } else {
+            // INTERACTIVE 요청이 BULK 요청 뒤에 밀리지 않도록 priority queue 로 선언한다.
+            builder.maxPriority(TtsLane.MAX_PRIORITY);
+            if (inputLazy) {
+                builder.lazy();
+            }
+        }
+        if (inputMaxLength > 0) {
+            builder.maxLength(inputMaxLength);
+            builder.withArgument("x-overflow", overflow(inputOverflow));
+        }
+        if (inputMessageTtl > 0) {
+            builder.ttl(inputMessageTtl);
+        }
+        return builder.build();
+    }
+
+    private static String overflow(String overflow) {
+        var value = overflow.toLowerCase();
+        if (!List.of("drop-head", "reject-publish", "reject-publish-dlx").contains(value)) {
+            throw new IllegalArgumentException("Unknown overflow policy: " + overflow);
+        }
+        return value;
+    }
+
+    @Bean
+    DirectExchange inputExchange() {
+        return new DirectExchange(InputMessagePublisher.EXCHANGE);
+    }
+
+    @Bean
+    Binding inputBinding() {
+        return BindingBuilder.bind(inputQueue()).to(inputExchange()).with(InputMessagePublisher.ROUTING_KEY);
     }
 
     @Bean
     RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter);
+        // 라우팅되지 않은 메시지는 CorrelationData 의 returned 로 돌려받는다.
+        rabbitTemplate.setMandatory(true);
         return rabbitTemplate;
     }
 
     @Bean
-    SimpleRabbitListenerContainerFactory simpleRabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
+    SimpleRabbitListenerContainerFactory simpleRabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+            OutputMessageRecoverer outputMessageRecoverer) {
+        return createListenerContainerFactory(connectionFactory, outputMessageRecoverer);
+    }
+
+    // 한 번의 호출로 최대 batchSize 개의 메시지를 List 로 받는 리스너용 factory
+    @Bean
+    SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+            OutputMessageRecoverer outputMessageRecoverer) {
+        final SimpleRabbitListenerContainerFactory factory =
+                createListenerContainerFactory(connectionFactory, outputMessageRecoverer);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(batchReceiveTimeout);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        return factory;
+    }
+
+    private SimpleRabbitListenerContainerFactory createListenerContainerFactory(ConnectionFactory connectionFactory,
+            OutputMessageRecoverer outputMessageRecoverer) {
         final SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter());
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(maxConcurrency);
+        factory.setPrefetchCount(prefetch);
+        factory.setAdviceChain(retryInterceptor(outputMessageRecoverer));
+        factory.setDefaultRequeueRejected(false);
         return factory;
     }
 
+    /**
+     * 일시적인 실패(Firestore 지연 등)는 같은 스레드에서 짧게 몇 번 더 시도하고, 그래도 실패하면 recoverer 에 넘긴다.
+     * 요청자가 없거나 메시지를 변환할 수 없는 경우는 다시 시도하지 않는다.
+     */
+    private RetryOperationsInterceptor retryInterceptor(OutputMessageRecoverer outputMessageRecoverer) {
+        var retryPolicy = new SimpleRetryPolicy(retryMaxAttempts, Map.of(
+                CUserNotFoundException.class, false,
+                MessageConversionException.class, false), true, true);
+        var backOffPolicy = new ExponentialBackOffPolicy();
+        backOffPolicy.setInitialInterval(retryInitialInterval);
+        backOffPolicy.setMaxInterval(retryMaxInterval);
+        return RetryInterceptorBuilder.stateless()
+                .retryPolicy(retryPolicy)
+                .backOffPolicy(backOffPolicy)
+                .recoverer(outputMessageRecoverer)
+                .build();
+    }
+
     @Bean
     ConnectionFactory connectionFactory() {
         CachingConnectionFactory connectionFactory = new CachingConnectionFactory();
@@ -70,11 +262,24 @@ public class RabbitConfig {
         connectionFactory.setPort(port);
         connectionFactory.setUsername(username);
         connectionFactory.setPassword(password);
+        // InputMessagePublisher 가 메시지별 ack/nack 을 받을 수 있도록 correlated publisher confirm 을 사용한다.
+        connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
+        connectionFactory.setPublisherReturns(true);
         return connectionFactory;
     }
 
+    /**
+     * 수신한 메시지는 content-type 으로 변환기를 고르므로 JSON 과 CBOR 를 모두 받을 수 있다.
+     * 발행 형식은 voicepocket.rabbit.message-format(json|cbor)으로 정한다. celery_consumer 가 CBOR 를 받을 수 있게 배포된 뒤에 cbor 로 바꾼다.
+     */
     @Bean
     MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+        var json = new Jackson2JsonMessageConverter();
+        var cbor = new CborMessageConverter();
+        var converter = new ContentTypeDelegatingMessageConverter(
+                "cbor".equalsIgnoreCase(messageFormat) ? cbor : json);
+        converter.addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+        converter.addDelegate(CborMessageConverter.CONTENT_TYPE, cbor);
+        return converter;
     }
 }
\ No newline at end of file
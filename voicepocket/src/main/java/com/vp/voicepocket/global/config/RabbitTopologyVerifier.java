@@ -0,0 +1,100 @@
+package com.vp.voicepocket.global.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 RabbitConfig 에 선언한 exchange / queue / binding 을 브로커에 바로 선언하고, 모두 존재하는지 확인한다.
+ *
+ * RabbitAdmin 은 보통 첫 연결 때 선언하고 실패해도 로그만 남기므로, 이미 다른 인자로 만들어진 큐가 있으면
+ * 요청을 받기 시작한 뒤에야 발행이 실패한다. 여기서 선언이나 확인이 실패하면 애플리케이션 기동을 중단한다.
+ * 브로커보다 먼저 뜨는 환경에서는 컨테이너 재시작 정책으로 다시 시도한다.
+ *
+ * 빈 초기화 단계에서 확인하므로 listener container(SmartLifecycle)가 시작되기 전에 끝나며,
+ * OutboxRelay 는 @DependsOn 으로 이 확인이 끝난 뒤에 발행을 시작한다.
+ */
+@Slf4j
+@Component
+public class RabbitTopologyVerifier implements InitializingBean {
+
+    private final AmqpAdmin amqpAdmin;
+    private final RabbitTemplate rabbitTemplate;
+    private final List<Queue> queues;
+    private final List<Binding> bindings;
+    private final List<Declarables> declarables;
+    private final boolean enabled;
+
+    public RabbitTopologyVerifier(AmqpAdmin amqpAdmin, RabbitTemplate rabbitTemplate, List<Queue> queues,
+        List<Binding> bindings, List<Declarables> declarables,
+        @Value("${voicepocket.rabbit.verify-topology:true}") boolean enabled) {
+        this.amqpAdmin = amqpAdmin;
+        this.rabbitTemplate = rabbitTemplate;
+        this.queues = queues;
+        this.bindings = bindings;
+        this.declarables = declarables;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        // 인자가 다른 기존 큐가 있거나 binding 을 만들 수 없으면 여기서 예외가 난다.
+        amqpAdmin.initialize();
+
+        List<Queue> allQueues = new ArrayList<>(queues);
+        List<Binding> allBindings = new ArrayList<>(bindings);
+        declarables.forEach(group -> {
+            allQueues.addAll(group.getDeclarablesByType(Queue.class));
+            allBindings.addAll(group.getDeclarablesByType(Binding.class));
+        });
+        allQueues.forEach(this::verify);
+        allBindings.forEach(this::verify);
+    }
+
+    private void verify(Queue queue) {
+        var queueInfo = amqpAdmin.getQueueInfo(queue.getName());
+        if (queueInfo == null) {
+            throw new IllegalStateException("RabbitMQ queue " + queue.getName() + " was not declared");
+        }
+        log.info("RabbitMQ queue {} ready: messages={}, consumers={}", queue.getName(),
+            queueInfo.getMessageCount(), queueInfo.getConsumerCount());
+    }
+
+    /**
+     * binding 의 source exchange 와 destination 이 있는지 passive 로 확인하고, binding 을 다시 선언한다.
+     * AMQP 에는 binding 을 조회하는 명령이 없으므로, 같은 binding 의 재선언(멱등)이 성공하는 것으로 확인한다.
+     */
+    private void verify(Binding binding) {
+        verifyExchange(binding.getExchange());
+        if (binding.isDestinationQueue()) {
+            if (amqpAdmin.getQueueInfo(binding.getDestination()) == null) {
+                throw new IllegalStateException("RabbitMQ queue " + binding.getDestination()
+                    + " bound to " + binding.getExchange() + " was not declared");
+            }
+        } else {
+            verifyExchange(binding.getDestination());
+        }
+        amqpAdmin.declareBinding(binding);
+        log.info("RabbitMQ binding {} -[{}]-> {} ready", binding.getExchange(), binding.getRoutingKey(),
+            binding.getDestination());
+    }
+
+    private void verifyExchange(String exchange) {
+        if (exchange.isEmpty()) {
+            // default exchange 는 항상 있다.
+            return;
+        }
+        rabbitTemplate.execute(channel -> channel.exchangeDeclarePassive(exchange));
+    }
+}
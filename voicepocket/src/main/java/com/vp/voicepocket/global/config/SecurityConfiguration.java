@@ -36,6 +36,8 @@ public class SecurityConfiguration {
             .authorizeRequests() // URL 별 권한 관리를 설정하는 옵션의 시작점, antMathcers를 작성하기 위해서는 먼저 선언되어야 한다.
             .antMatchers("/api/v1/auth/**").permitAll()
             .antMatchers("/api/v1/admin/**").hasRole("ADMIN")
+            .antMatchers("/actuator/health").permitAll()
+            .antMatchers("/actuator/**").hasRole("ADMIN")
             .anyRequest().hasRole("USER")
 
             .and()
@@ -3,6 +3,11 @@ package com.vp.voicepocket.global.exception;
 import com.vp.voicepocket.domain.firebase.exception.CFCMTokenNotFoundException;
 import com.vp.voicepocket.domain.friend.exception.CFriendRequestNotExistException;
 import com.vp.voicepocket.domain.friend.exception.CFriendRequestOnGoingException;
+import com.vp.voicepocket.domain.message.exception.CMessagePublishFailedException;
+import com.vp.voicepocket.domain.message.exception.CTooManyRequestsException;
+import com.vp.voicepocket.domain.message.exception.CTtsBatchTooLargeException;
+import com.vp.voicepocket.domain.message.exception.CTtsJobAlreadyExistsException;
+import com.vp.voicepocket.domain.message.exception.CTtsJobNotFoundException;
 import com.vp.voicepocket.domain.token.exception.CAccessDeniedException;
 import com.vp.voicepocket.domain.token.exception.CAccessTokenException;
 import com.vp.voicepocket.domain.token.exception.CAuthenticationEntryPointException;
@@ -11,13 +16,16 @@ import com.vp.voicepocket.domain.token.exception.CRefreshTokenException;
 import com.vp.voicepocket.domain.user.exception.CEmailLoginFailedException;
 import com.vp.voicepocket.domain.user.exception.CEmailSignUpFailedException;
 import com.vp.voicepocket.domain.user.exception.CUserNotFoundException;
+import com.vp.voicepocket.global.common.cursor.CInvalidCursorException;
 import com.vp.voicepocket.global.common.response.ResponseFactory;
 import com.vp.voicepocket.global.common.response.model.CommonResult;
 import io.jsonwebtoken.MalformedJwtException;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -183,4 +191,78 @@ public class GlobalExceptionHandler {
         return ResponseFactory.createFailResult(
                 Integer.parseInt(getMessage("FCMTokenNotFound.code")), getMessage("FCMTokenNotFound.msg"));
     }
+
+    /***
+     * -1013
+     * TTS 요청을 메시지 브로커에 전달하지 못한 경우
+     */
+    @ExceptionHandler(CMessagePublishFailedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    protected CommonResult messagePublishFailedException(
+            HttpServletRequest request, CMessagePublishFailedException e) {
+        return ResponseFactory.createFailResult(
+                Integer.parseInt(getMessage("messagePublishFailed.code")), getMessage("messagePublishFailed.msg"));
+    }
+
+    /***
+     * -1014
+     * 목록 조회 시 전달한 cursor 를 해석할 수 없는 경우
+     */
+    @ExceptionHandler(CInvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected CommonResult invalidCursorException(
+            HttpServletRequest request, CInvalidCursorException e) {
+        return ResponseFactory.createFailResult(
+                Integer.parseInt(getMessage("invalidCursor.code")), getMessage("invalidCursor.msg"));
+    }
+
+    /***
+     * -1015
+     * 조회한 TTS 요청이 없거나 본인의 요청이 아닌 경우
+     */
+    @ExceptionHandler(CTtsJobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    protected CommonResult ttsJobNotFoundException(
+            HttpServletRequest request, CTtsJobNotFoundException e) {
+        return ResponseFactory.createFailResult(
+                Integer.parseInt(getMessage("ttsJobNotFound.code")), getMessage("ttsJobNotFound.msg"));
+    }
+
+    /***
+     * -1016
+     * 같은 uuid 의 TTS 요청이 이미 접수된 경우
+     */
+    @ExceptionHandler(CTtsJobAlreadyExistsException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    protected CommonResult ttsJobAlreadyExistsException(
+            HttpServletRequest request, CTtsJobAlreadyExistsException e) {
+        return ResponseFactory.createFailResult(
+                Integer.parseInt(getMessage("ttsJobAlreadyExists.code")), getMessage("ttsJobAlreadyExists.msg"));
+    }
+
+    /***
+     * -1017
+     * 사용자별 TTS 요청 한도를 넘었거나 TTS 대기열이 가득 찬 경우
+     */
+    @ExceptionHandler(CTooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    protected CommonResult tooManyRequestsException(
+            HttpServletRequest request, HttpServletResponse response, CTooManyRequestsException e) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return ResponseFactory.createFailResult(
+                Integer.parseInt(getMessage("tooManyRequests.code")), getMessage("tooManyRequests.msg"));
+    }
+
+    /***
+     * -1018
+     * 한 번에 요청한 TTS 건수가 사용자별 요청 한도(burst)보다 많은 경우
+     */
+    @ExceptionHandler(CTtsBatchTooLargeException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    protected CommonResult ttsBatchTooLargeException(
+            HttpServletRequest request, CTtsBatchTooLargeException e) {
+        return ResponseFactory.createFailResult(
+                Integer.parseInt(getMessage("ttsBatchTooLarge.code")),
+                getMessage("ttsBatchTooLarge.msg", new Object[]{e.getMaxSize()}));
+    }
 }
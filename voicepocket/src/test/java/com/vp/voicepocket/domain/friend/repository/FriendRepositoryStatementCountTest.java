@@ -0,0 +1,120 @@
+package com.vp.voicepocket.domain.friend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vp.voicepocket.domain.friend.entity.Friend;
+import com.vp.voicepocket.domain.friend.entity.Status;
+import com.vp.voicepocket.domain.user.entity.User;
+import com.vp.voicepocket.domain.user.entity.enums.UserRole;
+import com.vp.voicepocket.domain.user.entity.vo.Email;
+import com.vp.voicepocket.global.config.JpaAuditingConfiguration;
+import com.vp.voicepocket.support.SqlStatementCounter;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 친구 API 가 사용하는 조회가 행 수와 관계없이 SQL 한 번으로 끝나는지 확인한다.
+ * keyset 커서가 createdDate 를 쓰므로 auditing 설정을 함께 올린다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaAuditingConfiguration.class)
+class FriendRepositoryStatementCountTest {
+
+	private static final int FRIEND_COUNT = 5;
+
+	@Autowired
+	private FriendRepository friendRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private SqlStatementCounter counter;
+	private User me;
+	private List<User> others;
+
+	@BeforeEach
+	void setUp() {
+		counter = new SqlStatementCounter(entityManagerFactory);
+		me = entityManager.persist(user("me"));
+		others = new ArrayList<>();
+		for (int i = 0; i < FRIEND_COUNT; i++) {
+			var other = entityManager.persist(user("friend" + i));
+			others.add(other);
+			var accepted = Friend.builder().requestFrom(me).requestTo(other).build();
+			accepted.updateStatus(Status.ACCEPT);
+			entityManager.persist(accepted);
+			entityManager.persist(Friend.builder().requestFrom(other).requestTo(me).build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+		counter.reset();
+	}
+
+	@Test
+	void checkResponse_friendList_singleStatement() {
+		var friends = friendRepository.findResponseDtosByFromUser(me.getId(), PageRequest.of(0, FRIEND_COUNT));
+
+		assertThat(friends).hasSize(FRIEND_COUNT);
+		assertThat(counter.count()).isEqualTo(1);
+	}
+
+	@Test
+	void checkRequest_pendingRequests_singleStatement() {
+		var requests = friendRepository.findResponseDtosByToUser(me.getId(), PageRequest.of(0, FRIEND_COUNT));
+
+		assertThat(requests).hasSize(FRIEND_COUNT);
+		assertThat(counter.count()).isEqualTo(1);
+	}
+
+	@Test
+	void checkResponse_nextPage_singleStatement() {
+		var last = friendRepository.findResponseDtosByFromUser(me.getId(), PageRequest.of(0, 2)).get(1);
+		assertThat(last.getCreatedDate()).isNotNull();
+		counter.reset();
+
+		var friends = friendRepository.findResponseDtosByFromUserBefore(
+			me.getId(), last.getCreatedDate(), last.getId(), PageRequest.of(0, FRIEND_COUNT));
+
+		assertThat(friends).hasSize(FRIEND_COUNT - 2);
+		assertThat(counter.count()).isEqualTo(1);
+	}
+
+	@Test
+	void update_findByRequest_loadsBothUsersInSingleStatement() {
+		var friend = friendRepository.findByRequest(others.get(0).getEmail(), me.getId()).orElseThrow();
+
+		// 수락 push 에서 사용하는 값
+		friend.getRequestFrom().getName();
+		friend.getRequestTo().getName();
+		assertThat(counter.count()).isEqualTo(1);
+	}
+
+	@Test
+	void delete_findByUserIdAndEmail_singleStatement() {
+		var friend = friendRepository.findByUserIdAndEmail(others.get(0).getId(), me.getEmail()).orElseThrow();
+
+		friend.getRequestTo().getEmail();
+		assertThat(counter.count()).isEqualTo(1);
+	}
+
+	private User user(String name) {
+		return User.builder()
+			.email(Email.from(name + "@voicepocket.com"))
+			.password("password")
+			.name(name)
+			.nickname(name)
+			.role(UserRole.ROLE_USER)
+			.build();
+	}
+}
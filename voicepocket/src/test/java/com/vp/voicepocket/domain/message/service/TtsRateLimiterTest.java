@@ -0,0 +1,77 @@
+package com.vp.voicepocket.domain.message.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GCRA 버킷이 burst 만큼 허용하고, 그 뒤로는 남은 시간을 돌려주며, 시간이 지나면 다시 허용하는지 확인한다.
+ */
+class TtsRateLimiterTest {
+
+	private static final long USER = 1L;
+
+	@Test
+	void allowsBurstThenReturnsWaitUntilNextPermit() {
+		// 1 초에 1 건, 최대 3 건까지 몰아서
+		var limiter = new TtsRateLimiter(60, 3);
+
+		assertThat(limiter.tryAcquire(USER, 1)).isZero();
+		assertThat(limiter.tryAcquire(USER, 1)).isZero();
+		assertThat(limiter.tryAcquire(USER, 1)).isZero();
+
+		long wait = limiter.tryAcquire(USER, 1);
+		assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+	}
+
+	@Test
+	void rejectedRequestDoesNotConsumePermits() {
+		var limiter = new TtsRateLimiter(60, 2);
+		limiter.tryAcquire(USER, 2);
+
+		long first = limiter.tryAcquire(USER, 1);
+		long second = limiter.tryAcquire(USER, 1);
+
+		// 거절된 요청이 TAT 를 밀었다면 두 번째 대기 시간이 1 초 가까이 늘어난다.
+		assertThat(second).isLessThanOrEqualTo(first);
+	}
+
+	@Test
+	void multiplePermitsUseBucketAtOnce() {
+		var limiter = new TtsRateLimiter(60, 3);
+
+		assertThat(limiter.tryAcquire(USER, 3)).isZero();
+		assertThat(limiter.tryAcquire(USER, 1)).isPositive();
+	}
+
+	@Test
+	void moreThanBurstIsNeverAllowed() {
+		var limiter = new TtsRateLimiter(60, 3);
+
+		assertThat(limiter.tryAcquire(USER, 4)).isEqualTo(Long.MAX_VALUE);
+		// 거절되어도 버킷은 그대로다.
+		assertThat(limiter.tryAcquire(USER, 3)).isZero();
+	}
+
+	@Test
+	void usersHaveSeparateBuckets() {
+		var limiter = new TtsRateLimiter(60, 1);
+
+		assertThat(limiter.tryAcquire(USER, 1)).isZero();
+		assertThat(limiter.tryAcquire(USER, 1)).isPositive();
+		assertThat(limiter.tryAcquire(2L, 1)).isZero();
+	}
+
+	@Test
+	void refillsAfterEmissionInterval() throws InterruptedException {
+		// 1 ms 에 1 건, 최대 2 건
+		var limiter = new TtsRateLimiter(60_000, 2);
+		limiter.tryAcquire(USER, 2);
+		assertThat(limiter.tryAcquire(USER, 1)).isPositive();
+
+		Thread.sleep(10);
+
+		assertThat(limiter.tryAcquire(USER, 2)).isZero();
+	}
+}
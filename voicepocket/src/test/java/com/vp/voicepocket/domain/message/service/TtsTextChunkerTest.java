@@ -0,0 +1,108 @@
+package com.vp.voicepocket.domain.message.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vp.voicepocket.domain.message.model.InputMessage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 긴 문장을 문장 경계, 공백, 길이 순으로 나누는 규칙을 확인한다.
+ */
+class TtsTextChunkerTest {
+
+	@Test
+	void keepsTextUpToMaxLengthAsOneChunk() {
+		var chunker = new TtsTextChunker(13);
+
+		assertThat(chunker.split("가나다라마. 바사아자차.")).containsExactly("가나다라마. 바사아자차.");
+	}
+
+	@Test
+	void packsSentencesUpToMaxLength() {
+		var chunker = new TtsTextChunker(15);
+
+		assertThat(chunker.split("가나다라마. 바사아자차. 카타파하가."))
+			.containsExactly("가나다라마. 바사아자차.", "카타파하가.");
+	}
+
+	@Test
+	void fillsChunkExactlyToMaxLength() {
+		var chunker = new TtsTextChunker(13);
+
+		// 6 + 1 + 6 = 13 자는 한 조각에 들어가고, 다음 문장은 넘친다.
+		assertThat(chunker.split("가나다라마. 바사아자차. 카"))
+			.containsExactly("가나다라마. 바사아자차.", "카");
+	}
+
+	@Test
+	void splitsLongSentenceAtWhitespace() {
+		var chunker = new TtsTextChunker(10);
+
+		assertThat(chunker.split("aaaa bbbb cccc dddd")).containsExactly("aaaa bbbb", "cccc dddd");
+	}
+
+	@Test
+	void cutsLongSentenceWithoutWhitespaceAtMaxLength() {
+		var chunker = new TtsTextChunker(5);
+
+		assertThat(chunker.split("abcdefghijkl")).containsExactly("abcde", "fghij", "kl");
+	}
+
+	@Test
+	void doesNotCutInsideSurrogatePair() {
+		var chunker = new TtsTextChunker(5);
+		var text = "abcd😀ef";
+
+		var chunks = chunker.split(text);
+
+		assertThat(chunks).containsExactly("abcd", "😀ef");
+		assertThat(String.join("", chunks)).isEqualTo(text);
+	}
+
+	@Test
+	void flushesPendingSentencesBeforeLongSentence() {
+		var chunker = new TtsTextChunker(10);
+
+		assertThat(chunker.split("가나. 다라마바 사아자차 카타"))
+			.containsExactly("가나.", "다라마바 사아자차", "카타");
+	}
+
+	@Test
+	void chunkKeepsRequestAndNumbersChunks() {
+		var chunker = new TtsTextChunker(15);
+		var inputMessage = InputMessage.builder()
+			.type("ETL")
+			.uuid("uuid-1")
+			.requestFrom("sender@gmail.com")
+			.requestTo("model@gmail.com")
+			.text("가나다라마. 바사아자차. 카타파하가.")
+			.priority(2)
+			.build();
+
+		var chunks = chunker.chunk(inputMessage);
+
+		assertThat(chunks).hasSize(2);
+		for (int i = 0; i < chunks.size(); i++) {
+			var chunk = chunks.get(i);
+			assertThat(chunk.getUuid()).isEqualTo("uuid-1");
+			assertThat(chunk.getRequestFrom()).isEqualTo("sender@gmail.com");
+			assertThat(chunk.getRequestTo()).isEqualTo("model@gmail.com");
+			assertThat(chunk.getPriority()).isEqualTo(2);
+			assertThat(chunk.getChunkIndex()).isEqualTo(i);
+			assertThat(chunk.getChunkCount()).isEqualTo(2);
+		}
+		assertThat(chunks.get(1).getText()).isEqualTo("카타파하가.");
+	}
+
+	@Test
+	void chunkOfShortTextIsSingleChunk() {
+		var chunker = new TtsTextChunker(15);
+		var inputMessage = InputMessage.builder().uuid("uuid-2").text("짧은 문장.").build();
+
+		var chunks = chunker.chunk(inputMessage);
+
+		assertThat(chunks).hasSize(1);
+		assertThat(chunks.get(0).getChunkIndex()).isEqualTo(0);
+		assertThat(chunks.get(0).getChunkCount()).isEqualTo(1);
+	}
+}
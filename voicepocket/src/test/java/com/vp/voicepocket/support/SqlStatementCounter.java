@@ -0,0 +1,26 @@
+package com.vp.voicepocket.support;
+
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Hibernate Statistics 로 실행된 SQL 문 수를 센다.
+ * hibernate.generate_statistics=true 인 환경에서만 동작한다.
+ */
+public class SqlStatementCounter {
+
+	private final Statistics statistics;
+
+	public SqlStatementCounter(EntityManagerFactory entityManagerFactory) {
+		this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	public void reset() {
+		statistics.clear();
+	}
+
+	public long count() {
+		return statistics.getPrepareStatementCount();
+	}
+}